@@ -1,9 +1,17 @@
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NavigableSet;
 import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.SortedSet;
+import java.util.function.BinaryOperator;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Defines a library of selection methods on Collections.
@@ -20,6 +28,12 @@ public final class Selector {
    */
    private Selector() {};
    
+   /**
+   * The minimum collection size at which the parallel methods split
+   * the work across the common ForkJoinPool.
+   */
+   public static final int PARALLEL_THRESHOLD = 1 << 16;
+   
     /**
      * Returns the minimum value in the Collection coll as defined by the
      * Comparator comp. If either coll or comp is null, this method throws an
@@ -44,6 +58,22 @@ public final class Selector {
          throw new NoSuchElementException();
       }
       
+      if (sortedBy(coll, comp)) {
+         return ((SortedSet<T>) coll).first();
+      }
+      
+      List<T> list = randomAccess(coll);
+      if (list != null) {
+         T min = list.get(0);
+         for (int i = 1; i < list.size(); i++) {
+            T item = list.get(i);
+            if (comp.compare(item, min) < 0) {
+               min = item;
+            }
+         }
+         return min;
+      }
+      
       Iterator<T> itr = coll.iterator();
       T min = itr.next();
       T item;
@@ -81,6 +111,22 @@ public final class Selector {
          throw new NoSuchElementException();
       }
       
+      if (sortedBy(coll, comp)) {
+         return ((SortedSet<T>) coll).last();
+      }
+      
+      List<T> list = randomAccess(coll);
+      if (list != null) {
+         T max = list.get(0);
+         for (int i = 1; i < list.size(); i++) {
+            T item = list.get(i);
+            if (comp.compare(item, max) > 0) {
+               max = item;
+            }
+         }
+         return max;
+      }
+      
       Iterator<T> itr = coll.iterator();
       T max = itr.next();
       T item;
@@ -113,6 +159,71 @@ public final class Selector {
       
    }
    
+   /**
+   * Counts the number of distinct objects in the Collection<T>, as decided
+   * by equals and hashCode. Unlike unique, coll does not have to be sorted.
+   * If coll is null, this method throws an IllegalArgumentException.
+   *
+   * @param coll   The collection with the objects inside
+   * @return       an int representing the distinct number of objects.
+   * @throws       IllegalArgumentException as per above
+   */
+   public static <T> int distinctCount(Collection<T> coll) {
+      if (coll == null) {
+         throw new IllegalArgumentException();
+      }
+      
+      DistinctSet<T> set = new DistinctSet<>(coll.size());
+      for (T element : coll) {
+         set.add(element);
+      }
+      return set.size();
+   }
+   
+   /**
+   * Counts the number of distinct objects in the Collection<T> exactly as
+   * distinctCount does. Collections of at least PARALLEL_THRESHOLD elements
+   * are split across the common ForkJoinPool and the partial sets are
+   * merged. If coll is null, this method throws an IllegalArgumentException.
+   *
+   * @param coll   The collection with the objects inside
+   * @return       an int representing the distinct number of objects.
+   * @throws       IllegalArgumentException as per above
+   */
+   public static <T> int parallelDistinctCount(Collection<T> coll) {
+      if (coll == null) {
+         throw new IllegalArgumentException();
+      }
+      
+      return stream(coll).collect(DistinctSet<T>::new, DistinctSet::add, DistinctSet::addAll).size();
+   }
+   
+   /**
+   * Estimates the number of distinct objects in the Collection<T> with a
+   * HyperLogLog sketch of 2^precision registers, so memory stays fixed no
+   * matter how large coll is. Collections of at least PARALLEL_THRESHOLD
+   * elements are sketched in parallel. If coll is null, or if precision is
+   * outside the range HyperLogLog allows, this method throws an
+   * IllegalArgumentException.
+   *
+   * @param coll        The collection with the objects inside
+   * @param precision   the HyperLogLog precision, such as 14
+   * @return            the estimated distinct number of objects.
+   * @throws            IllegalArgumentException as per above
+   */
+   public static <T> long approxDistinctCount(Collection<T> coll, int precision) {
+      if (coll == null) {
+         throw new IllegalArgumentException();
+      }
+      
+      if (precision < HyperLogLog.MIN_PRECISION || precision > HyperLogLog.MAX_PRECISION) {
+         throw new IllegalArgumentException();
+      }
+      
+      return stream(coll).collect(() -> new HyperLogLog(precision),
+                                  HyperLogLog::add, HyperLogLog::merge).estimate();
+   }
+   
     /**
      * Selects the kth minimum value from the Collection coll as defined by the
      * Comparator comp. If either coll or comp is null, this method throws an
@@ -120,6 +231,11 @@ public final class Selector {
      * value, this method throws a NoSuchElementException. This method will not
      * change coll in any way.
      *
+     * <p>Distinct values are told apart by equals, as in distinctCount, and
+     * the kth minimum is the value at index k - 1 once they are sorted in
+     * ascending order by comp. Values that comp considers equal but that are
+     * not equal are each counted, unlike in SelectorIndex or WindowedSelector.
+     *
      * @param coll    the Collection from which the kth minimum is selected
      * @param k       the k-selection value
      * @param comp    the Comparator that defines the total order on T
@@ -127,7 +243,8 @@ public final class Selector {
      * @throws        IllegalArgumentException as per above
      * @throws        NoSuchElementException as per above
      */
-     public static <T> T kmin(Collection<T> coll, int k, Comparator<T> comp) {
+   @SuppressWarnings("unchecked")
+   public static <T> T kmin(Collection<T> coll, int k, Comparator<T> comp) {
       if (coll == null) {
          throw new IllegalArgumentException();
       }
@@ -148,29 +265,18 @@ public final class Selector {
          throw new NoSuchElementException();
       }
       
-      List<T> collCopy = new ArrayList<>(coll);
+      Object[] items = naturalItems(coll, comp);
+      if (items != null) {
+         return (T) items[kthDistinct(items, k, true)];
+      }
       
-      collCopy.sort(comp);
-      Iterator<T> itr = collCopy.iterator();
-      int numberOfUniqueElements = unique(collCopy);
+      Object[] distinct = distinct(coll);
       
-      if (numberOfUniqueElements < k) {
+      if (distinct.length < k) {
          throw new NoSuchElementException();
       }
       
-      int kCount = 1;
-      T kMin = itr.next();
-      T currentElement = null;
-      while(kCount < k) {
-         currentElement = itr.next();
-         //if (comp.compare(currentElement, kMin) > 0) {
-         if (!currentElement.equals(kMin)) {
-            kMin = currentElement;
-            kCount++;
-         }
-      }
-      
-      return kMin;
+      return select(distinct, k - 1, comp);
    }
    
     /**
@@ -180,13 +286,19 @@ public final class Selector {
      * value, this method throws a NoSuchElementException. This method will not
      * change coll in any way.
      *
+     * <p>Distinct values are told apart by equals, as in kmin, and the kth
+     * maximum is the value at index k - 1 once they are sorted in descending
+     * order by comp.
+     *
      * @param coll    the Collection from which the kth maximum is selected
      * @param k       the k-selection value
      * @param comp    the Comparator that defines the total order on T
      * @return        the kth maximum value in coll
      * @throws        IllegalArgumentException as per above
      * @throws        NoSuchElementException as per above
-     */   public static <T> T kmax(Collection<T> coll, int k, Comparator<T> comp) {
+     */
+   @SuppressWarnings("unchecked")
+   public static <T> T kmax(Collection<T> coll, int k, Comparator<T> comp) {
       if (coll == null) {
          throw new IllegalArgumentException();
       }
@@ -207,30 +319,132 @@ public final class Selector {
          throw new NoSuchElementException();
       }
       
-      List<T> collCopy = new ArrayList<>(coll);;
+      Object[] items = naturalItems(coll, comp);
+      if (items != null) {
+         return (T) items[kthDistinct(items, k, false)];
+      }
       
-      collCopy.sort(comp);
-      int numberOfUniqueElements = unique(collCopy);
+      Object[] distinct = distinct(coll);
       
-      if (numberOfUniqueElements < k) {
+      if (distinct.length < k) {
          throw new NoSuchElementException();
       }
       
-      int kCount = 1;
-      int counter = collCopy.size() - 1;
-      T kMax = collCopy.get(counter);
-      T currentElement = null;
-      while(kCount < k) {
-         //if (comp.compare(currentElement, kMin) > 0) {
-         counter--;
-         currentElement = collCopy.get(counter);
-         if (!currentElement.equals(kMax)) {
-            kMax = currentElement;
-            kCount++;
+      return select(distinct, distinct.length - k, comp);
+   }
+   
+    /**
+     * Selects the kth minimum value from the Collection coll for every k in
+     * ks, as defined by the Comparator comp. The value at index i of the
+     * returned List is the ks[i]th minimum, exactly as kmin(coll, ks[i], comp)
+     * would return it, but all ranks are answered by one multi-select pass
+     * over a single copy of the distinct values. If coll, ks, or comp is null,
+     * this method throws an IllegalArgumentException. If coll is empty or if
+     * there is no kth minimum value for some k in ks, this method throws a
+     * NoSuchElementException. This method will not change coll in any way.
+     *
+     * @param coll    the Collection from which the kth minimums are selected
+     * @param ks      the k-selection values
+     * @param comp    the Comparator that defines the total order on T
+     * @return        a List of the kth minimum values, in the order of ks
+     * @throws        IllegalArgumentException as per above
+     * @throws        NoSuchElementException as per above
+     */
+   @SuppressWarnings("unchecked")
+   public static <T> List<T> kmins(Collection<T> coll, int[] ks, Comparator<T> comp) {
+      if (coll == null) {
+         throw new IllegalArgumentException();
+      }
+      
+      if (ks == null) {
+         throw new IllegalArgumentException();
+      }
+      
+      if (comp == null) {
+         throw new IllegalArgumentException();
+      }
+      
+      if (coll.isEmpty()) {
+         throw new NoSuchElementException();
+      }
+      
+      Object[] distinct = distinct(coll);
+      
+      int[] ranks = new int[ks.length];
+      for (int i = 0; i < ks.length; i++) {
+         if (ks[i] < 1 || ks[i] > distinct.length) {
+            throw new NoSuchElementException();
          }
+         ranks[i] = ks[i] - 1;
       }
       
-      return kMax;
+      int[] sortedRanks = Arrays.copyOf(ranks, ranks.length);
+      Arrays.sort(sortedRanks);
+      int depth = 2 * (32 - Integer.numberOfLeadingZeros(distinct.length));
+      multiselect((T[]) distinct, 0, distinct.length - 1, sortedRanks, 0,
+                  sortedRanks.length - 1, comp, depth);
+      
+      List<T> kMins = new ArrayList<>(ks.length);
+      for (int rank : ranks) {
+         kMins.add((T) distinct[rank]);
+      }
+      return kMins;
+   }
+   
+    /**
+     * Returns a Collector that selects the kth minimum value of its input as
+     * defined by the Comparator comp. Only the k smallest distinct values seen
+     * so far are retained, so the input is never materialized, and partial
+     * results from a parallel stream are merged. Distinct values are told
+     * apart by equals, as in kmin. If comp is null, this method throws an
+     * IllegalArgumentException. If k is less than one, this method throws a
+     * NoSuchElementException, and the Collector throws a
+     * NoSuchElementException if its input holds fewer than k distinct values.
+     *
+     * @param k       the k-selection value
+     * @param comp    the Comparator that defines the total order on T
+     * @return        a Collector producing the kth minimum value
+     * @throws        IllegalArgumentException as per above
+     * @throws        NoSuchElementException as per above
+     */
+   public static <T> Collector<T, ?, T> kminCollector(int k, Comparator<T> comp) {
+      if (comp == null) {
+         throw new IllegalArgumentException();
+      }
+      
+      if (k < 1) {
+         throw new NoSuchElementException();
+      }
+      
+      return boundedCollector(k, comp);
+   }
+   
+    /**
+     * Returns a Collector that selects the kth maximum value of its input as
+     * defined by the Comparator comp. Only the k largest distinct values seen
+     * so far are retained, so the input is never materialized, and partial
+     * results from a parallel stream are merged. Distinct values are told
+     * apart by equals, as in kmin. If comp is null, this method throws an
+     * IllegalArgumentException. If k is less than one, this method throws a
+     * NoSuchElementException, and the Collector throws a
+     * NoSuchElementException if its input holds fewer than k distinct values.
+     *
+     * @param k       the k-selection value
+     * @param comp    the Comparator that defines the total order on T
+     * @return        a Collector producing the kth maximum value
+     * @throws        IllegalArgumentException as per above
+     * @throws        NoSuchElementException as per above
+     */
+   public static <T> Collector<T, ?, T> kmaxCollector(int k, Comparator<T> comp) {
+      if (comp == null) {
+         throw new IllegalArgumentException();
+      }
+      
+      if (k < 1) {
+         throw new NoSuchElementException();
+      }
+      
+      return boundedCollector(k, comp.reversed());
    }
    
     /**
@@ -251,7 +465,9 @@ public final class Selector {
      * @return        a Collection of values between low and high
      * @throws        IllegalArgumentException as per above
      * @throws        NoSuchElementException as per above
-     */   public static <T> Collection<T> range(Collection<T> coll, T low, T high, Comparator<T> comp) {
+     */
+   @SuppressWarnings("unchecked")
+   public static <T> Collection<T> range(Collection<T> coll, T low, T high, Comparator<T> comp) {
       if (coll == null) {
          throw new IllegalArgumentException();
       }
@@ -265,10 +481,37 @@ public final class Selector {
       }
       
       ArrayList<T> rangeList = new ArrayList<>();
+      List<T> list = randomAccess(coll);
+      Object[] items = (list == null) ? null : naturalItems(coll, comp, low, high);
       
-      for (T element : coll) {
-         if ( (0 <= comp.compare(element, low)) && (comp.compare(element, high) <= 0)) {
-            rangeList.add(element);
+      if (sortedBy(coll, comp) && coll instanceof NavigableSet) {
+         if (comp.compare(low, high) <= 0) {
+            rangeList.addAll(((NavigableSet<T>) coll).subSet(low, true, high, true));
+         }
+      }
+      else if (items != null) {
+         long lowKey = key(low);
+         long highKey = key(high);
+         for (Object item : items) {
+            long key = key(item);
+            if (lowKey <= key && key <= highKey) {
+               rangeList.add((T) item);
+            }
+         }
+      }
+      else if (list != null) {
+         for (int i = 0; i < list.size(); i++) {
+            T element = list.get(i);
+            if ( (0 <= comp.compare(element, low)) && (comp.compare(element, high) <= 0)) {
+               rangeList.add(element);
+            }
+         }
+      }
+      else {
+         for (T element : coll) {
+            if ( (0 <= comp.compare(element, low)) && (comp.compare(element, high) <= 0)) {
+               rangeList.add(element);
+            }
          }
       }
       
@@ -279,6 +522,37 @@ public final class Selector {
       return rangeList;
    }
    
+    /**
+     * Returns a lazy Stream of the values in the Collection coll that are
+     * greater than or equal to low and less than or equal to high, as defined
+     * by the Comparator comp, in the encounter order of coll. Unlike range,
+     * nothing is copied and coll is only traversed as far as the caller
+     * consumes the Stream, so findFirst and limit stop the scan early. An
+     * empty Stream is returned when no values fall into the range. If either
+     * coll or comp is null, this method throws an IllegalArgumentException.
+     * The Stream will not change coll in any way, and coll should not be
+     * modified while the Stream is in use.
+     *
+     * @param coll    the Collection from which the range values are selected
+     * @param low     the lower bound of the range
+     * @param high    the upper bound of the range
+     * @param comp    the Comparator that defines the total order on T
+     * @return        a Stream of values between low and high
+     * @throws        IllegalArgumentException as per above
+     */
+   public static <T> Stream<T> rangeStream(Collection<T> coll, T low, T high, Comparator<T> comp) {
+      if (coll == null) {
+         throw new IllegalArgumentException();
+      }
+      
+      if (comp == null) {
+         throw new IllegalArgumentException();
+      }
+      
+      return coll.stream()
+         .filter(element -> 0 <= comp.compare(element, low) && comp.compare(element, high) <= 0);
+   }
+   
     /**
      * Returns the largest value in the Collection coll that is less than
      * or equal to key, as defined by the Comparator comp. The value of key
@@ -293,7 +567,9 @@ public final class Selector {
      * @return        the floor value of key in coll
      * @throws        IllegalArgumentException as per above
      * @throws        NoSuchElementException as per above
-     */   public static <T> T floor(Collection<T> coll, T key, Comparator<T> comp) {
+     */
+   @SuppressWarnings("unchecked")
+   public static <T> T floor(Collection<T> coll, T key, Comparator<T> comp) {
       if (coll == null) {
          throw new IllegalArgumentException();
       }
@@ -306,19 +582,56 @@ public final class Selector {
          throw new NoSuchElementException();
       }
       
-      ArrayList<T> lessThanList = new ArrayList<>();
+      if (sortedBy(coll, comp) && coll instanceof NavigableSet) {
+         T floor = ((NavigableSet<T>) coll).floor(key);
+         if (floor == null) {
+            throw new NoSuchElementException();
+         }
+         return floor;
+      }
       
-      for (T element : coll) {
-         if (comp.compare(element, key) <= 0) {
-            lessThanList.add(element);
+      boolean found = false;
+      T floor = null;
+      
+      List<T> list = randomAccess(coll);
+      Object[] items = (list == null) ? null : naturalItems(coll, comp, key);
+      if (items != null) {
+         long bound = key(key);
+         long bestKey = 0;
+         for (Object item : items) {
+            long itemKey = key(item);
+            if (itemKey <= bound && (!found || itemKey > bestKey)) {
+               floor = (T) item;
+               bestKey = itemKey;
+               found = true;
+            }
+         }
+      }
+      else if (list != null) {
+         for (int i = 0; i < list.size(); i++) {
+            T element = list.get(i);
+            if (comp.compare(element, key) <= 0
+                  && (!found || comp.compare(element, floor) > 0)) {
+               floor = element;
+               found = true;
+            }
+         }
+      }
+      else {
+         for (T element : coll) {
+            if (comp.compare(element, key) <= 0
+                  && (!found || comp.compare(element, floor) > 0)) {
+               floor = element;
+               found = true;
+            }
          }
       }
       
-      if (lessThanList.isEmpty()) {
+      if (!found) {
          throw new NoSuchElementException();
       }
       
-      return max(lessThanList, comp);
+      return floor;
    }
    
     /**
@@ -335,7 +648,9 @@ public final class Selector {
      * @return        the ceiling value of key in coll
      * @throws        IllegalArgumentException as per above
      * @throws        NoSuchElementException as per above
-     */   public static <T> T ceiling(Collection<T> coll, T key, Comparator<T> comp) {
+     */
+   @SuppressWarnings("unchecked")
+   public static <T> T ceiling(Collection<T> coll, T key, Comparator<T> comp) {
       if (coll == null) {
          throw new IllegalArgumentException();
       }
@@ -348,18 +663,801 @@ public final class Selector {
          throw new NoSuchElementException();
       }
       
-      ArrayList<T> greaterThanList = new ArrayList<>();
+      if (sortedBy(coll, comp) && coll instanceof NavigableSet) {
+         T ceiling = ((NavigableSet<T>) coll).ceiling(key);
+         if (ceiling == null) {
+            throw new NoSuchElementException();
+         }
+         return ceiling;
+      }
+      
+      boolean found = false;
+      T ceiling = null;
       
-      for ( T element : coll) {
-         if (comp.compare(element, key) >= 0) {
-            greaterThanList.add(element);
+      List<T> list = randomAccess(coll);
+      Object[] items = (list == null) ? null : naturalItems(coll, comp, key);
+      if (items != null) {
+         long bound = key(key);
+         long bestKey = 0;
+         for (Object item : items) {
+            long itemKey = key(item);
+            if (itemKey >= bound && (!found || itemKey < bestKey)) {
+               ceiling = (T) item;
+               bestKey = itemKey;
+               found = true;
+            }
+         }
+      }
+      else if (list != null) {
+         for (int i = 0; i < list.size(); i++) {
+            T element = list.get(i);
+            if (comp.compare(element, key) >= 0
+                  && (!found || comp.compare(element, ceiling) < 0)) {
+               ceiling = element;
+               found = true;
+            }
+         }
+      }
+      else {
+         for (T element : coll) {
+            if (comp.compare(element, key) >= 0
+                  && (!found || comp.compare(element, ceiling) < 0)) {
+               ceiling = element;
+               found = true;
+            }
          }
       }
       
-      if (greaterThanList.isEmpty()) {
+      if (!found) {
+         throw new NoSuchElementException();
+      }
+      
+      return ceiling;
+   }
+   
+    /**
+     * Returns the minimum value in the Collection coll as defined by the
+     * Comparator comp, exactly as min does. Collections of at least
+     * PARALLEL_THRESHOLD elements are split by their Spliterator and scanned
+     * on the common ForkJoinPool; smaller ones are scanned sequentially. If
+     * either coll or comp is null, this method throws an
+     * IllegalArgumentException. If coll is empty, this method throws a
+     * NoSuchElementException. This method will not change coll in any way.
+     *
+     * @param coll    the Collection from which the minimum is selected
+     * @param comp    the Comparator that defines the total order on T
+     * @return        the minimum value in coll
+     * @throws        IllegalArgumentException as per above
+     * @throws        NoSuchElementException as per above
+     */
+   public static <T> T parallelMin(Collection<T> coll, Comparator<T> comp) {
+      if (coll == null) {
+         throw new IllegalArgumentException();
+      }
+      
+      if (comp == null) {
+         throw new IllegalArgumentException();
+      }
+      
+      return stream(coll).reduce(BinaryOperator.minBy(comp))
+                         .orElseThrow(NoSuchElementException::new);
+   }
+   
+    /**
+     * Returns the maximum value in the Collection coll as defined by the
+     * Comparator comp, exactly as max does. Collections of at least
+     * PARALLEL_THRESHOLD elements are split by their Spliterator and scanned
+     * on the common ForkJoinPool; smaller ones are scanned sequentially. If
+     * either coll or comp is null, this method throws an
+     * IllegalArgumentException. If coll is empty, this method throws a
+     * NoSuchElementException. This method will not change coll in any way.
+     *
+     * @param coll    the Collection from which the maximum is selected
+     * @param comp    the Comparator that defines the total order on T
+     * @return        the maximum value in coll
+     * @throws        IllegalArgumentException as per above
+     * @throws        NoSuchElementException as per above
+     */
+   public static <T> T parallelMax(Collection<T> coll, Comparator<T> comp) {
+      if (coll == null) {
+         throw new IllegalArgumentException();
+      }
+      
+      if (comp == null) {
+         throw new IllegalArgumentException();
+      }
+      
+      return stream(coll).reduce(BinaryOperator.maxBy(comp))
+                         .orElseThrow(NoSuchElementException::new);
+   }
+   
+    /**
+     * Returns a new Collection containing all the values in the Collection coll
+     * that are greater than or equal to low and less than or equal to high, as
+     * defined by the Comparator comp, exactly as range does and in the same
+     * encounter order. Collections of at least PARALLEL_THRESHOLD elements are
+     * filtered in parallel on the common ForkJoinPool. If no values in coll
+     * fall into the specified range or if coll is empty, this method throws a
+     * NoSuchElementException. If either coll or comp is null, this method
+     * throws an IllegalArgumentException. This method will not change coll in
+     * any way.
+     *
+     * @param coll    the Collection from which the range values are selected
+     * @param low     the lower bound of the range
+     * @param high    the upper bound of the range
+     * @param comp    the Comparator that defines the total order on T
+     * @return        a Collection of values between low and high
+     * @throws        IllegalArgumentException as per above
+     * @throws        NoSuchElementException as per above
+     */
+   public static <T> Collection<T> parallelRange(Collection<T> coll, T low, T high, Comparator<T> comp) {
+      if (coll == null) {
+         throw new IllegalArgumentException();
+      }
+      
+      if (comp == null) {
+         throw new IllegalArgumentException();
+      }
+      
+      ArrayList<T> rangeList = stream(coll)
+         .filter(element -> 0 <= comp.compare(element, low) && comp.compare(element, high) <= 0)
+         .collect(Collectors.toCollection(ArrayList::new));
+      
+      if (rangeList.isEmpty()) {
+         throw new NoSuchElementException();
+      }
+      
+      return rangeList;
+   }
+   
+    /**
+     * Returns the largest value in the Collection coll that is less than
+     * or equal to key, as defined by the Comparator comp, exactly as floor
+     * does. Collections of at least PARALLEL_THRESHOLD elements are scanned
+     * in parallel on the common ForkJoinPool. If coll or comp is null, this
+     * method throws an IllegalArgumentException. If coll is empty or if there
+     * is no qualifying value, this method throws a NoSuchElementException.
+     * This method will not change coll in any way.
+     *
+     * @param coll    the Collection from which the floor value is selected
+     * @param key     the reference value
+     * @param comp    the Comparator that defines the total order on T
+     * @return        the floor value of key in coll
+     * @throws        IllegalArgumentException as per above
+     * @throws        NoSuchElementException as per above
+     */
+   public static <T> T parallelFloor(Collection<T> coll, T key, Comparator<T> comp) {
+      if (coll == null) {
+         throw new IllegalArgumentException();
+      }
+      
+      if (comp == null) {
+         throw new IllegalArgumentException();
+      }
+      
+      return stream(coll).filter(element -> comp.compare(element, key) <= 0)
+                         .reduce(BinaryOperator.maxBy(comp))
+                         .orElseThrow(NoSuchElementException::new);
+   }
+   
+    /**
+     * Returns the smallest value in the Collection coll that is greater than
+     * or equal to key, as defined by the Comparator comp, exactly as ceiling
+     * does. Collections of at least PARALLEL_THRESHOLD elements are scanned
+     * in parallel on the common ForkJoinPool. If coll or comp is null, this
+     * method throws an IllegalArgumentException. If coll is empty or if there
+     * is no qualifying value, this method throws a NoSuchElementException.
+     * This method will not change coll in any way.
+     *
+     * @param coll    the Collection from which the ceiling value is selected
+     * @param key     the reference value
+     * @param comp    the Comparator that defines the total order on T
+     * @return        the ceiling value of key in coll
+     * @throws        IllegalArgumentException as per above
+     * @throws        NoSuchElementException as per above
+     */
+   public static <T> T parallelCeiling(Collection<T> coll, T key, Comparator<T> comp) {
+      if (coll == null) {
+         throw new IllegalArgumentException();
+      }
+      
+      if (comp == null) {
+         throw new IllegalArgumentException();
+      }
+      
+      return stream(coll).filter(element -> comp.compare(element, key) >= 0)
+                         .reduce(BinaryOperator.minBy(comp))
+                         .orElseThrow(NoSuchElementException::new);
+   }
+   
+    /**
+     * Computes the minimum, maximum, number of distinct values, and number of
+     * values between low and high (inclusive) of the Collection coll in a
+     * single traversal, as defined by the Comparator comp. The minimum and
+     * maximum are those min and max would return. Unlike unique, the distinct
+     * count is correct for unsorted input; distinctness is decided by equals.
+     * If either coll or comp is null, this method throws an
+     * IllegalArgumentException. If coll is empty, this method throws a
+     * NoSuchElementException. This method will not change coll in any way.
+     *
+     * @param coll    the Collection to summarize
+     * @param comp    the Comparator that defines the total order on T
+     * @param low     the lower bound of the range
+     * @param high    the upper bound of the range
+     * @return        a Summary of coll
+     * @throws        IllegalArgumentException as per above
+     * @throws        NoSuchElementException as per above
+     */
+   public static <T> Summary<T> summarize(Collection<T> coll, Comparator<T> comp, T low, T high) {
+      if (coll == null) {
+         throw new IllegalArgumentException();
+      }
+      
+      if (comp == null) {
+         throw new IllegalArgumentException();
+      }
+      
+      if (coll.isEmpty()) {
          throw new NoSuchElementException();
       }
       
-      return min(greaterThanList, comp);
+      Summary<T> summary = new Summary<>(comp, low, high);
+      for (T element : coll) {
+         summary.accept(element);
+      }
+      return summary;
+   }
+   
+    /**
+     * Computes the same Summary as summarize, but collections of at least
+     * PARALLEL_THRESHOLD elements are split across the common ForkJoinPool
+     * and the partial summaries are combined. If either coll or comp is null,
+     * this method throws an IllegalArgumentException. If coll is empty, this
+     * method throws a NoSuchElementException. This method will not change
+     * coll in any way.
+     *
+     * @param coll    the Collection to summarize
+     * @param comp    the Comparator that defines the total order on T
+     * @param low     the lower bound of the range
+     * @param high    the upper bound of the range
+     * @return        a Summary of coll
+     * @throws        IllegalArgumentException as per above
+     * @throws        NoSuchElementException as per above
+     */
+   public static <T> Summary<T> parallelSummarize(Collection<T> coll, Comparator<T> comp, T low, T high) {
+      if (coll == null) {
+         throw new IllegalArgumentException();
+      }
+      
+      if (comp == null) {
+         throw new IllegalArgumentException();
+      }
+      
+      if (coll.isEmpty()) {
+         throw new NoSuchElementException();
+      }
+      
+      return stream(coll).collect(() -> new Summary<>(comp, low, high),
+                                  Summary::accept, Summary::combine);
+   }
+   
+   /**
+   * Returns a parallel Stream over coll if it holds at least
+   * PARALLEL_THRESHOLD elements, and a sequential one otherwise.
+   *
+   * @param coll   the Collection to stream
+   * @return       a Stream over the elements of coll
+   */
+   private static <T> Stream<T> stream(Collection<T> coll) {
+      if (coll.size() < PARALLEL_THRESHOLD) {
+         return coll.stream();
+      }
+      return coll.parallelStream();
+   }
+   
+   /**
+   * Builds a Collector that keeps the k smallest distinct values under comp
+   * in a Smallest and finishes with the largest of them.
+   *
+   * @param k      the number of distinct values to retain
+   * @param comp   the Comparator that defines the total order on T
+   * @return       a Collector producing the kth smallest value under comp
+   */
+   private static <T> Collector<T, ?, T> boundedCollector(int k, Comparator<T> comp) {
+      return Collector.<T, Smallest<T>, T>of(
+         () -> new Smallest<>(k, comp),
+         Smallest::offer,
+         (kept, other) -> kept.size < other.size ? other.addAll(kept) : kept.addAll(other),
+         Smallest::kth,
+         Collector.Characteristics.UNORDERED);
+   }
+   
+   /**
+   * Copies the distinct values of coll into a new array. Distinctness is
+   * decided by equals, as in unique, but the input does not have to be
+   * sorted. The copy takes expected linear time.
+   *
+   * @param coll   the Collection whose distinct values are copied
+   * @return       an array holding each distinct value of coll once
+   */
+   private static <T> Object[] distinct(Collection<T> coll) {
+      DistinctSet<T> set = new DistinctSet<>(coll.size());
+      for (T element : coll) {
+         set.add(element);
+      }
+      return set.toArray();
+   }
+   
+   /**
+   * Returns the value that would be at index rank if a were sorted by comp.
+   * This is an introselect: quickselect with a median-of-three pivot and a
+   * three-way partition, falling back to sorting the remaining subrange if
+   * the recursion depth exceeds 2 lg n. The contents of a are rearranged.
+   *
+   * @param a      the array to select from
+   * @param rank   the zero-based rank of the value to select
+   * @param comp   the Comparator that defines the total order on T
+   * @return       the value of the given rank in a
+   */
+   @SuppressWarnings("unchecked")
+   private static <T> T select(Object[] a, int rank, Comparator<T> comp) {
+      T[] items = (T[]) a;
+      int lo = 0;
+      int hi = items.length - 1;
+      int depth = 2 * (32 - Integer.numberOfLeadingZeros(items.length));
+      while (lo < hi) {
+         if (depth-- == 0) {
+            Arrays.sort(items, lo, hi + 1, comp);
+            return items[rank];
+         }
+         long bounds = partition(items, lo, hi, comp);
+         int lt = (int) (bounds >>> 32);
+         int gt = (int) bounds;
+         if (rank < lt) {
+            hi = lt - 1;
+         }
+         else if (rank > gt) {
+            lo = gt + 1;
+         }
+         else {
+            return items[rank];
+         }
+      }
+      return items[rank];
+   }
+   
+   /**
+   * Rearranges items[lo..hi] so that every rank in ranks[rlo..rhi] holds the
+   * value it would hold if items were sorted by comp. Each partition step
+   * only recurses into the sides that still contain a requested rank, and
+   * the subrange is sorted outright once depth reaches zero.
+   *
+   * @param items  the array to select from
+   * @param lo     the first index of the subrange
+   * @param hi     the last index of the subrange
+   * @param ranks  the requested ranks, in ascending order
+   * @param rlo    the first index of the ranks that fall in the subrange
+   * @param rhi    the last index of the ranks that fall in the subrange
+   * @param comp   the Comparator that defines the total order on T
+   * @param depth  the number of partition levels left before sorting
+   */
+   private static <T> void multiselect(T[] items, int lo, int hi, int[] ranks, int rlo,
+                                       int rhi, Comparator<T> comp, int depth) {
+      if (rlo > rhi || lo >= hi) {
+         return;
+      }
+      if (depth == 0) {
+         Arrays.sort(items, lo, hi + 1, comp);
+         return;
+      }
+      long bounds = partition(items, lo, hi, comp);
+      int lt = (int) (bounds >>> 32);
+      int gt = (int) bounds;
+      int left = rlo;
+      while (left <= rhi && ranks[left] < lt) {
+         left++;
+      }
+      int right = left;
+      while (right <= rhi && ranks[right] <= gt) {
+         right++;
+      }
+      multiselect(items, lo, lt - 1, ranks, rlo, left - 1, comp, depth - 1);
+      multiselect(items, gt + 1, hi, ranks, right, rhi, comp, depth - 1);
+   }
+   
+   /**
+   * Partitions items[lo..hi] three ways around a median-of-three pivot so
+   * that items[lo..lt-1] are less than the pivot, items[lt..gt] are equal
+   * to it, and items[gt+1..hi] are greater than it.
+   *
+   * @param items  the array to partition
+   * @param lo     the first index of the subrange
+   * @param hi     the last index of the subrange
+   * @param comp   the Comparator that defines the total order on T
+   * @return       lt in the high 32 bits and gt in the low 32 bits
+   */
+   private static <T> long partition(T[] items, int lo, int hi, Comparator<T> comp) {
+      int mid = (lo + hi) >>> 1;
+      if (comp.compare(items[mid], items[lo]) < 0) {
+         swap(items, mid, lo);
+      }
+      if (comp.compare(items[hi], items[lo]) < 0) {
+         swap(items, hi, lo);
+      }
+      if (comp.compare(items[hi], items[mid]) < 0) {
+         swap(items, hi, mid);
+      }
+      T pivot = items[mid];
+      int lt = lo;
+      int gt = hi;
+      int i = lo;
+      while (i <= gt) {
+         int c = comp.compare(items[i], pivot);
+         if (c < 0) {
+            swap(items, lt++, i++);
+         }
+         else if (c > 0) {
+            swap(items, i, gt--);
+         }
+         else {
+            i++;
+         }
+      }
+      return ((long) lt << 32) | (gt & 0xFFFFFFFFL);
+   }
+   
+   /**
+   * Returns true if coll is a SortedSet ordered by comp, so that its own
+   * navigation answers queries under comp. A set with no comparator is in
+   * natural order, which matches Comparator.naturalOrder().
+   *
+   * @param coll   the Collection to inspect
+   * @param comp   the Comparator that defines the total order on T
+   * @return       true if coll is a SortedSet ordered by comp
+   */
+   private static boolean sortedBy(Collection<?> coll, Comparator<?> comp) {
+      if (!(coll instanceof SortedSet)) {
+         return false;
+      }
+      Comparator<?> order = ((SortedSet<?>) coll).comparator();
+      return order == comp || (order == null && comp == Comparator.naturalOrder());
+   }
+   
+   /**
+   * Returns coll as a List if it supports fast indexed access, so that it
+   * can be scanned by index without allocating an Iterator.
+   *
+   * @param coll   the Collection to inspect
+   * @return       coll as a List, or null if it is not RandomAccess
+   */
+   private static <T> List<T> randomAccess(Collection<T> coll) {
+      if (coll instanceof List && coll instanceof RandomAccess) {
+         return (List<T>) coll;
+      }
+      return null;
+   }
+   
+   /**
+   * Returns the values of coll as an array for the unboxed natural-order
+   * kernels, or null if those kernels do not apply. They apply when comp is
+   * Comparator.naturalOrder() and every value of coll, and every one of
+   * bounds, is an Integer, a Long, or a Double, all of the same class. The
+   * kernels then compare long keys, which order exactly as the values do
+   * under natural order, so they return what the Comparator path would
+   * without a Comparator call per comparison. In any other case the
+   * Comparator path runs, and fails or succeeds as it always has.
+   *
+   * @param coll     the non-empty Collection to inspect
+   * @param comp     the Comparator that defines the total order on T
+   * @param bounds   the other values compared with coll's, such as a key
+   * @return         the values of coll in encounter order, or null
+   */
+   private static Object[] naturalItems(Collection<?> coll, Comparator<?> comp,
+                                        Object... bounds) {
+      if (comp != Comparator.naturalOrder()) {
+         return null;
+      }
+      Object first = coll.iterator().next();
+      if (!(first instanceof Integer || first instanceof Long || first instanceof Double)) {
+         return null;
+      }
+      Class<?> type = first.getClass();
+      for (Object bound : bounds) {
+         if (bound == null || bound.getClass() != type) {
+            return null;
+         }
+      }
+      Object[] items = coll.toArray();
+      for (Object item : items) {
+         if (item == null || item.getClass() != type) {
+            return null;
+         }
+      }
+      return items;
+   }
+   
+   /**
+   * Returns the long key of an Integer, Long, or Double. A Double's bits
+   * have their magnitude bits flipped when negative, which orders keys as
+   * Double.compare orders the values, -0.0 before 0.0 and NaN last.
+   *
+   * @param value   the value to key
+   * @return        the key of value
+   */
+   private static long key(Object value) {
+      if (value instanceof Integer) {
+         return (Integer) value;
+      }
+      if (value instanceof Long) {
+         return (Long) value;
+      }
+      long bits = Double.doubleToLongBits((Double) value);
+      return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+   }
+   
+   /**
+   * Returns the index of the first value in items whose key is the kth
+   * smallest (or largest) distinct key. Keys are equal exactly when their
+   * values are equal, so this is the natural-order kernel for kmin and kmax.
+   * If there are fewer than k distinct keys, this method throws a
+   * NoSuchElementException.
+   *
+   * @param items     the values to select from, as naturalItems returns them
+   * @param k         the k-selection value
+   * @param fromLow   true for the kth minimum, false for the kth maximum
+   * @return          the index of the first value with the selected key
+   * @throws          NoSuchElementException as per above
+   */
+   private static int kthDistinct(Object[] items, int k, boolean fromLow) {
+      long[] keys = new long[items.length];
+      for (int i = 0; i < items.length; i++) {
+         keys[i] = key(items[i]);
+      }
+      long[] sorted = Arrays.copyOf(keys, keys.length);
+      Arrays.sort(sorted);
+      int count = 0;
+      for (int i = 0; i < sorted.length; i++) {
+         int j = fromLow ? i : sorted.length - 1 - i;
+         if (i == 0 || sorted[j] != sorted[fromLow ? j - 1 : j + 1]) {
+            count++;
+            if (count == k) {
+               for (int index = 0; ; index++) {
+                  if (keys[index] == sorted[j]) {
+                     return index;
+                  }
+               }
+            }
+         }
+      }
+      throw new NoSuchElementException();
+   }
+   
+   /**
+   * Exchanges items[i] and items[j].
+   *
+   * @param items  the array holding the values
+   * @param i      the index of the first value
+   * @param j      the index of the second value
+   */
+   private static <T> void swap(T[] items, int i, int j) {
+      T temp = items[i];
+      items[i] = items[j];
+      items[j] = temp;
+   }
+   
+   /**
+   * The k smallest distinct values under a Comparator seen so far by a
+   * Collector, kept in a binary max-heap so that the largest of them is the
+   * one evicted. Distinctness is decided by equals, as in kmin: seen holds
+   * every value that entered the heap, including evicted ones, and is
+   * rebuilt from the heap once it holds more than twice k values. An
+   * evicted value can be forgotten safely, since it is never again smaller
+   * than the largest value kept.
+   */
+   private static final class Smallest<T> {
+      private final int k;
+      private final Comparator<T> comp;
+      private Object[] heap;
+      private int size;
+      private DistinctSet<T> seen;
+      
+      private Smallest(int k, Comparator<T> comp) {
+         this.k = k;
+         this.comp = comp;
+         this.heap = new Object[Math.min(k, 16)];
+         this.seen = new DistinctSet<>();
+      }
+      
+      /**
+      * Adds element if it is among the k smallest distinct values seen,
+      * evicting the largest value if the heap would grow past k.
+      *
+      * @param element  the value being offered
+      */
+      @SuppressWarnings("unchecked")
+      private void offer(T element) {
+         if (size < k) {
+            if (seen.add(element)) {
+               if (size == heap.length) {
+                  heap = Arrays.copyOf(heap, (int) Math.min(k, 2L * size));
+               }
+               heap[size] = element;
+               siftUp(size++);
+            }
+         }
+         else if (comp.compare(element, (T) heap[0]) < 0 && seen.add(element)) {
+            heap[0] = element;
+            siftDown(0);
+            if (seen.size() - size > size) {
+               seen = new DistinctSet<>(size);
+               for (int i = 0; i < size; i++) {
+                  seen.add((T) heap[i]);
+               }
+            }
+         }
+      }
+      
+      /**
+      * Offers every value kept by other to this heap.
+      *
+      * @param other   the partial result to absorb
+      * @return        this heap
+      */
+      @SuppressWarnings("unchecked")
+      private Smallest<T> addAll(Smallest<T> other) {
+         for (int i = 0; i < other.size; i++) {
+            offer((T) other.heap[i]);
+         }
+         return this;
+      }
+      
+      /**
+      * Returns the largest of the k values kept. If fewer than k distinct
+      * values were seen, this method throws a NoSuchElementException.
+      *
+      * @return   the kth smallest distinct value seen
+      * @throws   NoSuchElementException as per above
+      */
+      @SuppressWarnings("unchecked")
+      private T kth() {
+         if (size < k) {
+            throw new NoSuchElementException();
+         }
+         return (T) heap[0];
+      }
+      
+      /**
+      * Moves heap[i] up until its parent is no smaller.
+      *
+      * @param i   the index of the value to move
+      */
+      @SuppressWarnings("unchecked")
+      private void siftUp(int i) {
+         while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (comp.compare((T) heap[i], (T) heap[parent]) <= 0) {
+               return;
+            }
+            swap(heap, i, parent);
+            i = parent;
+         }
+      }
+      
+      /**
+      * Moves heap[i] down until neither child is larger.
+      *
+      * @param i   the index of the value to move
+      */
+      @SuppressWarnings("unchecked")
+      private void siftDown(int i) {
+         while (2 * i + 1 < size) {
+            int child = 2 * i + 1;
+            if (child + 1 < size && comp.compare((T) heap[child + 1], (T) heap[child]) > 0) {
+               child++;
+            }
+            if (comp.compare((T) heap[child], (T) heap[i]) <= 0) {
+               return;
+            }
+            swap(heap, i, child);
+            i = child;
+         }
+      }
+   }
+   
+   /**
+   * The result of summarize: the minimum, maximum, distinct count, and
+   * range count of a Collection, gathered in one traversal.
+   */
+   public static final class Summary<T> {
+      private final Comparator<T> comp;
+      private final T low;
+      private final T high;
+      private final DistinctSet<T> distinct;
+      private T min;
+      private T max;
+      private long count;
+      private long rangeCount;
+      
+      private Summary(Comparator<T> comp, T low, T high) {
+         this.comp = comp;
+         this.low = low;
+         this.high = high;
+         this.distinct = new DistinctSet<>();
+      }
+      
+      /**
+      * Returns the minimum value, as min would.
+      *
+      * @return   the minimum value
+      */
+      public T min() {
+         return min;
+      }
+      
+      /**
+      * Returns the maximum value, as max would.
+      *
+      * @return   the maximum value
+      */
+      public T max() {
+         return max;
+      }
+      
+      /**
+      * Returns the number of values summarized.
+      *
+      * @return   the number of values
+      */
+      public long count() {
+         return count;
+      }
+      
+      /**
+      * Returns the number of distinct values, as decided by equals.
+      *
+      * @return   the number of distinct values
+      */
+      public int unique() {
+         return distinct.size();
+      }
+      
+      /**
+      * Returns the number of values between low and high, inclusive,
+      * counting duplicates. This is the size range would return.
+      *
+      * @return   the number of values in the range
+      */
+      public long rangeCount() {
+         return rangeCount;
+      }
+      
+      private void accept(T element) {
+         if (count == 0 || comp.compare(element, min) < 0) {
+            min = element;
+         }
+         if (count == 0 || comp.compare(element, max) > 0) {
+            max = element;
+         }
+         if (0 <= comp.compare(element, low) && comp.compare(element, high) <= 0) {
+            rangeCount++;
+         }
+         distinct.add(element);
+         count++;
+      }
+      
+      private void combine(Summary<T> other) {
+         if (other.count == 0) {
+            return;
+         }
+         if (count == 0 || comp.compare(other.min, min) < 0) {
+            min = other.min;
+         }
+         if (count == 0 || comp.compare(other.max, max) > 0) {
+            max = other.max;
+         }
+         rangeCount += other.rangeCount;
+         distinct.addAll(other.distinct);
+         count += other.count;
+      }
    }
 }
\ No newline at end of file
@@ -0,0 +1,157 @@
+/**
+ * A minimal hash set used by Selector to find distinct values without
+ * sorting. Distinctness is decided by equals and hashCode. Values are
+ * kept in a single array with open addressing and linear probing, so an
+ * add costs no allocation beyond the occasional resize. Null is allowed
+ * and is counted as one value. The table stops growing at 2^30 slots, so
+ * a set holds fewer than 2^30 non-null values.
+ *
+ * @author  Jack Ryan Fulford (jrf0067@auburn.edu)
+ * @version 18 October 2026
+ *
+ */
+final class DistinctSet<T> {
+
+   /** The smallest table capacity used. */
+   private static final int MIN_CAPACITY = 16;
+
+   /** The largest table capacity used. */
+   private static final int MAX_CAPACITY = 1 << 30;
+
+   private Object[] table;
+   private int size;
+   private boolean sawNull;
+
+   /**
+   * Creates an empty set sized to hold expected values without resizing.
+   *
+   * @param expected   the number of values expected to be added
+   */
+   DistinctSet(int expected) {
+      int capacity = MIN_CAPACITY;
+      while (capacity / 2 < expected && capacity < MAX_CAPACITY) {
+         capacity <<= 1;
+      }
+      table = new Object[capacity];
+   }
+
+   /**
+   * Creates an empty set with the smallest table capacity.
+   */
+   DistinctSet() {
+      this(0);
+   }
+
+   /**
+   * Adds element to this set if it is not already present. If element is
+   * new and the table is at its largest capacity with one free slot left,
+   * this method throws an IllegalStateException.
+   *
+   * @param element   the value to add
+   * @return          true if element was not already present
+   * @throws          IllegalStateException as per above
+   */
+   boolean add(T element) {
+      if (element == null) {
+         if (sawNull) {
+            return false;
+         }
+         sawNull = true;
+         size++;
+         return true;
+      }
+      int mask = table.length - 1;
+      int slot = spread(element.hashCode()) & mask;
+      while (table[slot] != null) {
+         if (table[slot].equals(element)) {
+            return false;
+         }
+         slot = (slot + 1) & mask;
+      }
+      if (table.length == MAX_CAPACITY && size >= MAX_CAPACITY - 1) {
+         throw new IllegalStateException("DistinctSet holds at most 2^30 - 1 values");
+      }
+      table[slot] = element;
+      size++;
+      if (size > table.length / 2 && table.length < MAX_CAPACITY) {
+         resize();
+      }
+      return true;
+   }
+
+   /**
+   * Adds every value of other to this set.
+   *
+   * @param other   the set whose values are added
+   */
+   @SuppressWarnings("unchecked")
+   void addAll(DistinctSet<T> other) {
+      if (other.sawNull) {
+         add(null);
+      }
+      for (Object element : other.table) {
+         if (element != null) {
+            add((T) element);
+         }
+      }
+   }
+
+   /**
+   * Returns the number of distinct values in this set.
+   *
+   * @return   the number of distinct values
+   */
+   int size() {
+      return size;
+   }
+
+   /**
+   * Returns a new array holding each value of this set once, in no
+   * particular order.
+   *
+   * @return   the values of this set
+   */
+   Object[] toArray() {
+      Object[] result = new Object[size];
+      int count = 0;
+      if (sawNull) {
+         result[count++] = null;
+      }
+      for (Object element : table) {
+         if (element != null) {
+            result[count++] = element;
+         }
+      }
+      return result;
+   }
+
+   /**
+   * Doubles the table capacity and reinserts every value.
+   */
+   private void resize() {
+      Object[] old = table;
+      table = new Object[old.length * 2];
+      int mask = table.length - 1;
+      for (Object element : old) {
+         if (element != null) {
+            int slot = spread(element.hashCode()) & mask;
+            while (table[slot] != null) {
+               slot = (slot + 1) & mask;
+            }
+            table[slot] = element;
+         }
+      }
+   }
+
+   /**
+   * Mixes the bits of a hash code so that keys differing only in their
+   * high bits still land in different slots of a power-of-two table.
+   *
+   * @param h   the hash code to mix
+   * @return    the mixed hash code
+   */
+   private static int spread(int h) {
+      h *= 0x9E3779B9;
+      return h ^ (h >>> 16);
+   }
+}
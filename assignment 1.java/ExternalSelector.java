@@ -0,0 +1,511 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+
+/**
+ * Answers the Selector queries kmin, kmax, and range over data that does
+ * not fit in memory, read once from an Iterator. At most runLength values
+ * are held in memory at a time.
+ *
+ * <p>kmin reads the input in runs of runLength values. Each run is sorted,
+ * cut down to its k smallest distinct values (no other value of the run
+ * can be the kth minimum), and spilled to a temporary file through a
+ * Serializer. The runs are then k-way merged, at most MERGE_WIDTH at a
+ * time, skipping equal values, until the kth distinct value is reached.
+ * Input that fits in a single run is answered in memory and never touches
+ * the disk. kmax does the same under the reverse order. range keeps no
+ * state at all, so it filters the input in one pass and hands each match
+ * to a Consumer rather than collecting them into a List.
+ *
+ * <p>Runs are deduplicated by the Comparator, so kmin and kmax count values
+ * that compare equal once. Selector deduplicates with equals instead; the
+ * answers agree whenever the Comparator is consistent with equals.
+ * Temporary files are deleted before each call returns.
+ *
+ * @author  Jack Ryan Fulford (jrf0067@auburn.edu)
+ * @version 18 October 2026
+ *
+ */
+public final class ExternalSelector<T> {
+
+   /**
+    * The number of values held in memory per run by default.
+    */
+   public static final int DEFAULT_RUN_LENGTH = 1 << 20;
+
+   /**
+    * The largest number of runs merged at once. More runs than this are
+    * merged in several passes, so that only this many files are open.
+    */
+   public static final int MERGE_WIDTH = 64;
+
+   /**
+    * The length the run buffer starts at. It doubles as values arrive, up
+    * to runLength, so small inputs do not pay for a full run.
+    */
+   private static final int INITIAL_BUFFER = 1 << 10;
+
+   private final Serializer<T> serializer;
+   private final Comparator<T> comp;
+   private final int runLength;
+   private final Path directory;
+
+    /**
+     * Writes and reads values of type T for the temporary run files.
+     * read must return a value equal to the one write was given.
+     */
+   public interface Serializer<T> {
+
+      /**
+       * Writes value to out.
+       *
+       * @param out     the stream to write to
+       * @param value   the value to write
+       * @throws        IOException if out cannot be written
+       */
+      void write(DataOutput out, T value) throws IOException;
+
+      /**
+       * Reads the next value from in.
+       *
+       * @param in      the stream to read from
+       * @return        the value read
+       * @throws        IOException if in cannot be read
+       */
+      T read(DataInput in) throws IOException;
+   }
+
+    /**
+     * Creates a selector that holds DEFAULT_RUN_LENGTH values in memory and
+     * spills runs to the default temporary-file directory. If either
+     * serializer or comp is null, this constructor throws an
+     * IllegalArgumentException.
+     *
+     * @param serializer the Serializer for the run files
+     * @param comp       the Comparator that defines the total order on T
+     * @throws           IllegalArgumentException as per above
+     */
+   public ExternalSelector(Serializer<T> serializer, Comparator<T> comp) {
+      this(serializer, comp, DEFAULT_RUN_LENGTH, null);
+   }
+
+    /**
+     * Creates a selector that holds at most runLength values in memory and
+     * spills runs to directory, or to the default temporary-file directory
+     * if directory is null. If either serializer or comp is null, or if
+     * runLength is less than one, this constructor throws an
+     * IllegalArgumentException.
+     *
+     * @param serializer the Serializer for the run files
+     * @param comp       the Comparator that defines the total order on T
+     * @param runLength  the number of values held in memory per run
+     * @param directory  the directory for the run files, or null
+     * @throws           IllegalArgumentException as per above
+     */
+   public ExternalSelector(Serializer<T> serializer, Comparator<T> comp,
+                           int runLength, Path directory) {
+      if (serializer == null || comp == null) {
+         throw new IllegalArgumentException();
+      }
+
+      if (runLength < 1) {
+         throw new IllegalArgumentException();
+      }
+
+      this.serializer = serializer;
+      this.comp = comp;
+      this.runLength = runLength;
+      this.directory = directory;
+   }
+
+    /**
+     * Selects the kth minimum value from the values of itr. If itr is null,
+     * this method throws an IllegalArgumentException. If itr has no values
+     * or if there is no kth minimum value, this method throws a
+     * NoSuchElementException. If a run file cannot be written or read, this
+     * method throws an UncheckedIOException.
+     *
+     * @param itr     the Iterator from which the kth minimum is selected
+     * @param k       the k-selection value
+     * @return        the kth minimum value of itr
+     * @throws        IllegalArgumentException as per above
+     * @throws        NoSuchElementException as per above
+     * @throws        UncheckedIOException as per above
+     */
+   public T kmin(Iterator<T> itr, int k) {
+      return select(itr, k, comp);
+   }
+
+    /**
+     * Selects the kth maximum value from the values of itr. If itr is null,
+     * this method throws an IllegalArgumentException. If itr has no values
+     * or if there is no kth maximum value, this method throws a
+     * NoSuchElementException. If a run file cannot be written or read, this
+     * method throws an UncheckedIOException.
+     *
+     * @param itr     the Iterator from which the kth maximum is selected
+     * @param k       the k-selection value
+     * @return        the kth maximum value of itr
+     * @throws        IllegalArgumentException as per above
+     * @throws        NoSuchElementException as per above
+     * @throws        UncheckedIOException as per above
+     */
+   public T kmax(Iterator<T> itr, int k) {
+      return select(itr, k, comp.reversed());
+   }
+
+    /**
+     * Passes to action, in the order itr returns them, every value of itr
+     * that is greater than or equal to low and less than or equal to high.
+     * If either itr or action is null, this method throws an
+     * IllegalArgumentException. If no value is in the range, this method
+     * throws a NoSuchElementException, as Selector.range does.
+     *
+     * @param itr     the Iterator whose values are filtered
+     * @param low     the lower bound of the range
+     * @param high    the upper bound of the range
+     * @param action  the Consumer that receives each value in the range
+     * @return        the number of values in the range
+     * @throws        IllegalArgumentException as per above
+     * @throws        NoSuchElementException as per above
+     */
+   public long range(Iterator<T> itr, T low, T high, Consumer<? super T> action) {
+      if (itr == null || action == null) {
+         throw new IllegalArgumentException();
+      }
+
+      long count = 0;
+      while (itr.hasNext()) {
+         T value = itr.next();
+         if (comp.compare(value, low) >= 0 && comp.compare(value, high) <= 0) {
+            action.accept(value);
+            count++;
+         }
+      }
+
+      if (count == 0) {
+         throw new NoSuchElementException();
+      }
+      return count;
+   }
+
+   /**
+   * Finds the kth distinct value of itr under order, spilling sorted runs
+   * when the input does not fit in one run.
+   *
+   * @param itr     the Iterator of values
+   * @param k       the k-selection value
+   * @param order   the order in which values are ranked
+   * @return        the kth distinct value under order
+   */
+   @SuppressWarnings("unchecked")
+   private T select(Iterator<T> itr, int k, Comparator<T> order) {
+      if (itr == null) {
+         throw new IllegalArgumentException();
+      }
+
+      if (k < 1) {
+         throw new NoSuchElementException();
+      }
+
+      T[] buffer = (T[]) new Object[Math.min(runLength, INITIAL_BUFFER)];
+      List<Path> runs = new ArrayList<>();
+      // Every file created, so that all of them go even if a pass fails.
+      List<Path> files = new ArrayList<>();
+      try {
+         while (itr.hasNext()) {
+            int n = 0;
+            while (n < runLength && itr.hasNext()) {
+               if (n == buffer.length) {
+                  buffer = Arrays.copyOf(buffer, (int) Math.min(runLength, 2L * n));
+               }
+               buffer[n++] = itr.next();
+            }
+            Arrays.sort(buffer, 0, n, order);
+            int distinct = distinct(buffer, n, k, order);
+
+            if (runs.isEmpty() && !itr.hasNext()) {
+               if (distinct < k) {
+                  throw new NoSuchElementException();
+               }
+               return buffer[k - 1];
+            }
+            runs.add(spill(buffer, distinct, files));
+         }
+         Arrays.fill(buffer, null);
+
+         if (runs.isEmpty()) {
+            throw new NoSuchElementException();
+         }
+
+         while (runs.size() > MERGE_WIDTH) {
+            List<Path> merged = new ArrayList<>();
+            for (int i = 0; i < runs.size(); i += MERGE_WIDTH) {
+               List<Path> group = runs.subList(i, Math.min(runs.size(), i + MERGE_WIDTH));
+               merged.add(spill(group, k, order, files));
+               delete(group);
+            }
+            runs = merged;
+         }
+
+         try (Merge merge = new Merge(runs, order)) {
+            for (int i = 1; i < k && merge.hasNext(); i++) {
+               merge.next();
+            }
+            if (!merge.hasNext()) {
+               throw new NoSuchElementException();
+            }
+            return merge.next();
+         }
+      }
+      catch (IOException e) {
+         throw new UncheckedIOException(e);
+      }
+      finally {
+         delete(files);
+      }
+   }
+
+   /**
+   * Removes values equal to their predecessor from the sorted prefix
+   * a[0..n), keeping the first of each, and stops after limit values.
+   *
+   * @param a       the sorted values
+   * @param n       the number of values in a
+   * @param limit   the most distinct values to keep
+   * @param order   the order a is sorted by
+   * @return        the number of distinct values kept at the front of a
+   */
+   private static <T> int distinct(T[] a, int n, int limit, Comparator<T> order) {
+      if (n == 0) {
+         return 0;
+      }
+      int kept = 1;
+      for (int i = 1; i < n && kept < limit; i++) {
+         if (order.compare(a[i], a[kept - 1]) != 0) {
+            a[kept++] = a[i];
+         }
+      }
+      return kept;
+   }
+
+   /**
+   * Writes a[0..n) to a new run file. Each value is preceded by true, and
+   * the run ends with false.
+   *
+   * @param a       the values of the run, in order
+   * @param n       the number of values
+   * @param files   the list that records every file created
+   * @return        the run file
+   * @throws        IOException if the file cannot be written
+   */
+   private Path spill(T[] a, int n, List<Path> files) throws IOException {
+      Path run = createRun(files);
+      try (DataOutputStream out = open(run)) {
+         for (int i = 0; i < n; i++) {
+            out.writeBoolean(true);
+            serializer.write(out, a[i]);
+         }
+         out.writeBoolean(false);
+      }
+      return run;
+   }
+
+   /**
+   * Merges a group of run files into a new run file that holds at most
+   * limit distinct values.
+   *
+   * @param group   the run files to merge
+   * @param limit   the most distinct values to keep
+   * @param order   the order the runs are sorted by
+   * @param files   the list that records every file created
+   * @return        the merged run file
+   * @throws        IOException if a file cannot be written or read
+   */
+   private Path spill(List<Path> group, int limit, Comparator<T> order,
+                      List<Path> files) throws IOException {
+      Path run = createRun(files);
+      try (Merge merge = new Merge(group, order);
+           DataOutputStream out = open(run)) {
+         for (int i = 0; i < limit && merge.hasNext(); i++) {
+            out.writeBoolean(true);
+            serializer.write(out, merge.next());
+         }
+         out.writeBoolean(false);
+      }
+      return run;
+   }
+
+   /**
+   * Creates an empty run file in the configured directory and records it
+   * in files, before anything is written to it.
+   *
+   * @param files   the list that records every file created
+   * @return        the run file
+   * @throws        IOException if the file cannot be created
+   */
+   private Path createRun(List<Path> files) throws IOException {
+      Path run = directory == null
+         ? Files.createTempFile("selector", ".run")
+         : Files.createTempFile(directory, "selector", ".run");
+      files.add(run);
+      return run;
+   }
+
+   /**
+   * Opens a buffered stream that writes run from the start.
+   *
+   * @param run     the run file
+   * @return        the stream
+   * @throws        IOException if the file cannot be opened
+   */
+   private static DataOutputStream open(Path run) throws IOException {
+      return new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(run)));
+   }
+
+   /**
+   * Deletes run files, or schedules them for deletion at exit if they
+   * cannot be deleted now.
+   *
+   * @param runs    the run files
+   */
+   private static void delete(List<Path> runs) {
+      for (Path run : runs) {
+         try {
+            Files.deleteIfExists(run);
+         }
+         catch (IOException e) {
+            run.toFile().deleteOnExit();
+         }
+      }
+   }
+
+   /**
+   * A k-way merge of sorted run files that returns each distinct value
+   * once, in order. Of equal values, the one from the earliest run is
+   * returned, so that ties resolve as they would in memory.
+   */
+   private final class Merge implements Closeable {
+      private final Comparator<T> order;
+      private final PriorityQueue<Cursor> heads;
+      private final List<Cursor> cursors;
+      private T last;
+      private boolean started;
+
+      private Merge(List<Path> runs, Comparator<T> order) throws IOException {
+         this.order = order;
+         this.heads = new PriorityQueue<>((x, y) -> {
+            int c = order.compare(x.head, y.head);
+            return c != 0 ? c : Integer.compare(x.index, y.index);
+         });
+         this.cursors = new ArrayList<>();
+         try {
+            for (Path run : runs) {
+               Cursor cursor = new Cursor(run, cursors.size());
+               cursors.add(cursor);
+               if (cursor.advance()) {
+                  heads.add(cursor);
+               }
+            }
+         }
+         catch (IOException | RuntimeException e) {
+            try {
+               close();
+            }
+            catch (IOException suppressed) {
+               e.addSuppressed(suppressed);
+            }
+            throw e;
+         }
+      }
+
+      private boolean hasNext() throws IOException {
+         while (started && !heads.isEmpty() && order.compare(heads.peek().head, last) == 0) {
+            pop();
+         }
+         return !heads.isEmpty();
+      }
+
+      private T next() throws IOException {
+         if (!hasNext()) {
+            throw new NoSuchElementException();
+         }
+         last = pop();
+         started = true;
+         return last;
+      }
+
+      private T pop() throws IOException {
+         Cursor cursor = heads.poll();
+         T value = cursor.head;
+         if (cursor.advance()) {
+            heads.add(cursor);
+         }
+         return value;
+      }
+
+      @Override
+      public void close() throws IOException {
+         // Every stream is closed even if an earlier one fails; the first
+         // failure is thrown with any later ones suppressed.
+         IOException failure = null;
+         for (Cursor cursor : cursors) {
+            try {
+               cursor.in.close();
+            }
+            catch (IOException e) {
+               if (failure == null) {
+                  failure = e;
+               }
+               else {
+                  failure.addSuppressed(e);
+               }
+            }
+         }
+         if (failure != null) {
+            throw failure;
+         }
+      }
+   }
+
+   /**
+   * The read position in one run file.
+   */
+   private final class Cursor {
+      private final DataInputStream in;
+      private final int index;
+      private boolean done;
+      private T head;
+
+      private Cursor(Path run, int index) throws IOException {
+         this.in = new DataInputStream(new BufferedInputStream(Files.newInputStream(run)));
+         this.index = index;
+      }
+
+      private boolean advance() throws IOException {
+         if (done || !in.readBoolean()) {
+            done = true;
+            head = null;
+            return false;
+         }
+         head = serializer.read(in);
+         return true;
+      }
+   }
+}
@@ -0,0 +1,196 @@
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+
+/**
+ * A mutable set that answers the Selector queries kmin, kmax, floor, and
+ * ceiling, and counts the values in a range, without re-scanning its
+ * contents. It suits data that changes between queries, where calling
+ * Selector.kmin after every update would rebuild and re-sort the whole
+ * collection each time.
+ *
+ * <p>The values are kept in a size-augmented balanced tree, so add,
+ * remove, and every query cost O(log n) expected time.
+ *
+ * <p>Membership is decided by the Comparator alone, as in a TreeSet: adding
+ * a value that compares equal to one already present leaves the set
+ * unchanged, even if the two are not equal by equals. Selector tells values
+ * apart with equals instead, so the two give the same kmin and kmax only
+ * when the Comparator is consistent with equals.
+ *
+ * @author  Jack Ryan Fulford (jrf0067@auburn.edu)
+ * @version 18 October 2026
+ *
+ */
+public final class OrderStatisticSet<T> {
+
+   private final OrderStatisticTree<T> tree;
+
+    /**
+     * Creates an empty set ordered by the Comparator comp. If comp is null,
+     * this constructor throws an IllegalArgumentException.
+     *
+     * @param comp    the Comparator that defines the total order on T
+     * @throws        IllegalArgumentException as per above
+     */
+   public OrderStatisticSet(Comparator<T> comp) {
+      if (comp == null) {
+         throw new IllegalArgumentException();
+      }
+
+      this.tree = new OrderStatisticTree<>(comp);
+   }
+
+    /**
+     * Creates a set ordered by the Comparator comp that holds the distinct
+     * values of coll. If either coll or comp is null, this constructor
+     * throws an IllegalArgumentException.
+     *
+     * @param coll    the Collection of initial values
+     * @param comp    the Comparator that defines the total order on T
+     * @throws        IllegalArgumentException as per above
+     */
+   public OrderStatisticSet(Collection<T> coll, Comparator<T> comp) {
+      this(comp);
+
+      if (coll == null) {
+         throw new IllegalArgumentException();
+      }
+
+      for (T value : coll) {
+         add(value);
+      }
+   }
+
+    /**
+     * Adds value to the set, unless an equal value is already present.
+     *
+     * @param value   the value to add
+     * @return        true if the set changed
+     */
+   public boolean add(T value) {
+      if (tree.count(value) != 0) {
+         return false;
+      }
+      return tree.add(value);
+   }
+
+    /**
+     * Removes the value equal to value from the set, if present.
+     *
+     * @param value   the value to remove
+     * @return        true if the set changed
+     */
+   public boolean remove(T value) {
+      return tree.remove(value);
+   }
+
+    /**
+     * Returns true if the set holds a value equal to value.
+     *
+     * @param value   the value to look up
+     * @return        true if an equal value is present
+     */
+   public boolean contains(T value) {
+      return tree.count(value) != 0;
+   }
+
+    /**
+     * Returns the number of values in the set.
+     *
+     * @return        the number of values in the set
+     */
+   public int size() {
+      return tree.distinct();
+   }
+
+    /**
+     * Returns true if the set holds no values.
+     *
+     * @return        true if the set is empty
+     */
+   public boolean isEmpty() {
+      return tree.distinct() == 0;
+   }
+
+    /**
+     * Removes every value from the set.
+     */
+   public void clear() {
+      tree.clear();
+   }
+
+    /**
+     * Selects the kth minimum value in the set. If the set is empty or if
+     * there is no kth minimum value, this method throws a
+     * NoSuchElementException.
+     *
+     * @param k       the k-selection value
+     * @return        the kth minimum value in the set
+     * @throws        NoSuchElementException as per above
+     */
+   public T kmin(int k) {
+      if (k < 1 || k > tree.distinct()) {
+         throw new NoSuchElementException();
+      }
+      return tree.kth(k - 1);
+   }
+
+    /**
+     * Selects the kth maximum value in the set. If the set is empty or if
+     * there is no kth maximum value, this method throws a
+     * NoSuchElementException.
+     *
+     * @param k       the k-selection value
+     * @return        the kth maximum value in the set
+     * @throws        NoSuchElementException as per above
+     */
+   public T kmax(int k) {
+      int size = tree.distinct();
+      if (k < 1 || k > size) {
+         throw new NoSuchElementException();
+      }
+      return tree.kth(size - k);
+   }
+
+    /**
+     * Returns the largest value in the set that is less than or equal to
+     * key. If the set is empty or if there is no such value, this method
+     * throws a NoSuchElementException.
+     *
+     * @param key     the reference value
+     * @return        the largest value less than or equal to key
+     * @throws        NoSuchElementException as per above
+     */
+   public T floor(T key) {
+      return tree.floor(key);
+   }
+
+    /**
+     * Returns the smallest value in the set that is greater than or equal to
+     * key. If the set is empty or if there is no such value, this method
+     * throws a NoSuchElementException.
+     *
+     * @param key     the reference value
+     * @return        the smallest value greater than or equal to key
+     * @throws        NoSuchElementException as per above
+     */
+   public T ceiling(T key) {
+      return tree.ceiling(key);
+   }
+
+    /**
+     * Returns the number of values in the set that are greater than or equal
+     * to low and less than or equal to high. Unlike Selector.range, an empty
+     * range is reported as zero rather than by an exception.
+     *
+     * @param low     the lower bound of the range
+     * @param high    the upper bound of the range
+     * @return        the number of values in [low, high]
+     */
+   public int rangeCount(T low, T high) {
+      int below = tree.rank(low);
+      int through = tree.rank(high) + (tree.count(high) != 0 ? 1 : 0);
+      return Math.max(0, through - below);
+   }
+}
@@ -0,0 +1,306 @@
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+/**
+ * A balanced binary search tree (a treap) over the distinct values of a
+ * multiset, as defined by a Comparator. Each node records how many times
+ * its value was added and how many distinct values are in its subtree, so
+ * the kth distinct value and the rank of a value are found in O(log n)
+ * expected time, like every other operation.
+ *
+ * @author  Jack Ryan Fulford (jrf0067@auburn.edu)
+ * @version 18 October 2026
+ *
+ */
+final class OrderStatisticTree<T> {
+
+   private final Comparator<T> comp;
+   private final Random random;
+   private Node<T> root;
+
+   /**
+   * Creates an empty tree ordered by comp.
+   *
+   * @param comp   the Comparator that defines the total order on T
+   */
+   OrderStatisticTree(Comparator<T> comp) {
+      this.comp = comp;
+      this.random = new Random();
+   }
+
+   /**
+   * Returns the number of distinct values.
+   *
+   * @return   the number of distinct values
+   */
+   int distinct() {
+      return distinct(root);
+   }
+
+   /**
+   * Returns how many times a value equal to value has been added and not
+   * yet removed.
+   *
+   * @param value   the value to look up
+   * @return        the number of occurrences of value
+   */
+   long count(T value) {
+      Node<T> n = root;
+      while (n != null) {
+         int c = comp.compare(value, n.value);
+         if (c == 0) {
+            return n.count;
+         }
+         n = c < 0 ? n.left : n.right;
+      }
+      return 0;
+   }
+
+   /**
+   * Adds one occurrence of value.
+   *
+   * @param value   the value to add
+   * @return        true if no value equal to value was present before
+   */
+   boolean add(T value) {
+      int before = distinct(root);
+      root = insert(root, value);
+      return distinct(root) != before;
+   }
+
+   /**
+   * Removes one occurrence of value, if present.
+   *
+   * @param value   the value to remove
+   * @return        true if an occurrence was removed
+   */
+   boolean remove(T value) {
+      if (count(value) == 0) {
+         return false;
+      }
+      root = delete(root, value);
+      return true;
+   }
+
+   /**
+   * Returns the distinct value of the given zero-based rank.
+   *
+   * @param rank   the rank, between zero and distinct() - 1
+   * @return       the distinct value of that rank
+   */
+   T kth(int rank) {
+      Node<T> n = root;
+      while (true) {
+         int leftSize = distinct(n.left);
+         if (rank < leftSize) {
+            n = n.left;
+         }
+         else if (rank == leftSize) {
+            return n.value;
+         }
+         else {
+            rank -= leftSize + 1;
+            n = n.right;
+         }
+      }
+   }
+
+   /**
+   * Returns the number of distinct values less than value.
+   *
+   * @param value   the reference value
+   * @return        the number of distinct values less than value
+   */
+   int rank(T value) {
+      int rank = 0;
+      Node<T> n = root;
+      while (n != null) {
+         int c = comp.compare(value, n.value);
+         if (c <= 0) {
+            n = n.left;
+         }
+         else {
+            rank += distinct(n.left) + 1;
+            n = n.right;
+         }
+      }
+      return rank;
+   }
+
+   /**
+   * Returns the largest value less than or equal to key. If there is none,
+   * this method throws a NoSuchElementException, so that a null value in
+   * the tree is not mistaken for a missing one.
+   *
+   * @param key   the reference value
+   * @return      the floor of key
+   * @throws      NoSuchElementException as per above
+   */
+   T floor(T key) {
+      Node<T> floor = null;
+      Node<T> n = root;
+      while (n != null) {
+         int c = comp.compare(key, n.value);
+         if (c == 0) {
+            return n.value;
+         }
+         if (c < 0) {
+            n = n.left;
+         }
+         else {
+            floor = n;
+            n = n.right;
+         }
+      }
+      if (floor == null) {
+         throw new NoSuchElementException();
+      }
+      return floor.value;
+   }
+
+   /**
+   * Returns the smallest value greater than or equal to key. If there is
+   * none, this method throws a NoSuchElementException, as floor does.
+   *
+   * @param key   the reference value
+   * @return      the ceiling of key
+   * @throws      NoSuchElementException as per above
+   */
+   T ceiling(T key) {
+      Node<T> ceiling = null;
+      Node<T> n = root;
+      while (n != null) {
+         int c = comp.compare(key, n.value);
+         if (c == 0) {
+            return n.value;
+         }
+         if (c > 0) {
+            n = n.right;
+         }
+         else {
+            ceiling = n;
+            n = n.left;
+         }
+      }
+      if (ceiling == null) {
+         throw new NoSuchElementException();
+      }
+      return ceiling.value;
+   }
+
+   /**
+   * Removes every value.
+   */
+   void clear() {
+      root = null;
+   }
+
+   private Node<T> insert(Node<T> n, T value) {
+      if (n == null) {
+         return new Node<>(value, random.nextInt());
+      }
+      int c = comp.compare(value, n.value);
+      if (c == 0) {
+         n.count++;
+         return n;
+      }
+      if (c < 0) {
+         n.left = insert(n.left, value);
+         if (n.left.priority > n.priority) {
+            n = rotateRight(n);
+         }
+      }
+      else {
+         n.right = insert(n.right, value);
+         if (n.right.priority > n.priority) {
+            n = rotateLeft(n);
+         }
+      }
+      update(n);
+      return n;
+   }
+
+   private Node<T> delete(Node<T> n, T value) {
+      if (n == null) {
+         return null;
+      }
+      int c = comp.compare(value, n.value);
+      if (c < 0) {
+         n.left = delete(n.left, value);
+      }
+      else if (c > 0) {
+         n.right = delete(n.right, value);
+      }
+      else if (n.count > 1) {
+         n.count--;
+      }
+      else {
+         return join(n.left, n.right);
+      }
+      update(n);
+      return n;
+   }
+
+   private Node<T> join(Node<T> left, Node<T> right) {
+      if (left == null) {
+         return right;
+      }
+      if (right == null) {
+         return left;
+      }
+      if (left.priority > right.priority) {
+         left.right = join(left.right, right);
+         update(left);
+         return left;
+      }
+      right.left = join(left, right.left);
+      update(right);
+      return right;
+   }
+
+   private Node<T> rotateRight(Node<T> n) {
+      Node<T> l = n.left;
+      n.left = l.right;
+      l.right = n;
+      update(n);
+      update(l);
+      return l;
+   }
+
+   private Node<T> rotateLeft(Node<T> n) {
+      Node<T> r = n.right;
+      n.right = r.left;
+      r.left = n;
+      update(n);
+      update(r);
+      return r;
+   }
+
+   private static <T> void update(Node<T> n) {
+      n.distinct = 1 + distinct(n.left) + distinct(n.right);
+   }
+
+   private static <T> int distinct(Node<T> n) {
+      return n == null ? 0 : n.distinct;
+   }
+
+   /**
+   * A tree node holding one distinct value and its multiplicity.
+   */
+   private static final class Node<T> {
+      private final T value;
+      private final int priority;
+      private long count;
+      private int distinct;
+      private Node<T> left;
+      private Node<T> right;
+
+      private Node(T value, int priority) {
+         this.value = value;
+         this.priority = priority;
+         this.count = 1;
+         this.distinct = 1;
+      }
+   }
+}
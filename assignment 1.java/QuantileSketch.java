@@ -0,0 +1,326 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.stream.Collector;
+
+/**
+ * An approximate order-statistics sketch (a KLL sketch) for streams too
+ * large to select from exactly. Values are kept in a stack of compactors.
+ * When a compactor fills, it is sorted and every other value is promoted
+ * to the next level with twice the weight. The memory used therefore
+ * grows only with the logarithm of the number of values added.
+ *
+ * <p>A query of rank r returns a value whose true rank is within
+ * epsilon * n of r with high probability, where n is the number of values
+ * added. The top compactor holds 2.6 / epsilon values, which keeps the
+ * worst error QuantileSketchCheck measures over many shuffled inputs below
+ * epsilon * n. Unlike Selector.kmin and Selector.kmax, ranks here count
+ * duplicate values, since distinct values cannot be tracked in bounded
+ * memory. Sketches built separately, for example one per thread, can be
+ * combined with merge, provided they use the same Comparator.
+ *
+ * @author  Jack Ryan Fulford (jrf0067@auburn.edu)
+ * @version 18 October 2026
+ *
+ */
+public final class QuantileSketch<T> {
+
+   /** The ratio between the capacities of adjacent compactors. */
+   private static final double DECAY = 2.0 / 3.0;
+
+   /** The smallest capacity any compactor is given. */
+   private static final int MIN_CAPACITY = 2;
+
+   private final Comparator<T> comp;
+   private final int k;
+   private final Random random;
+   private final List<List<T>> levels;
+   private long count;
+   private int retained;
+   private int maxRetained;
+
+    /**
+     * Creates an empty sketch whose rank error is within epsilon times the
+     * number of values added, with high probability, as ordered by the
+     * Comparator comp. If comp is null, or if epsilon is not strictly
+     * between zero and one, this constructor throws an
+     * IllegalArgumentException.
+     *
+     * @param epsilon the target normalized rank error, such as 0.01
+     * @param comp    the Comparator that defines the total order on T
+     * @throws        IllegalArgumentException as per above
+     */
+   public QuantileSketch(double epsilon, Comparator<T> comp) {
+      if (comp == null) {
+         throw new IllegalArgumentException();
+      }
+
+      if (!(epsilon > 0 && epsilon < 1)) {
+         throw new IllegalArgumentException();
+      }
+
+      this.comp = comp;
+      this.k = Math.max(8, (int) Math.ceil(2.6 / epsilon));
+      this.random = new Random();
+      this.levels = new ArrayList<>();
+      this.levels.add(new ArrayList<>());
+      this.maxRetained = capacity(0);
+   }
+
+    /**
+     * Returns a Collector that feeds its input into a new sketch with the
+     * given error bound. Partial sketches from a parallel stream are merged.
+     * If comp is null, or if epsilon is not strictly between zero and one,
+     * this method throws an IllegalArgumentException.
+     *
+     * @param epsilon the target normalized rank error, such as 0.01
+     * @param comp    the Comparator that defines the total order on T
+     * @return        a Collector producing a QuantileSketch of its input
+     * @throws        IllegalArgumentException as per above
+     */
+   public static <T> Collector<T, ?, QuantileSketch<T>> collector(double epsilon, Comparator<T> comp) {
+      if (comp == null) {
+         throw new IllegalArgumentException();
+      }
+
+      if (!(epsilon > 0 && epsilon < 1)) {
+         throw new IllegalArgumentException();
+      }
+
+      return Collector.of(
+         () -> new QuantileSketch<>(epsilon, comp),
+         QuantileSketch::add,
+         (sketch, other) -> {
+            sketch.merge(other);
+            return sketch;
+         },
+         Collector.Characteristics.UNORDERED,
+         Collector.Characteristics.IDENTITY_FINISH);
+   }
+
+    /**
+     * Adds a value to this sketch.
+     *
+     * @param value   the value to add
+     */
+   public void add(T value) {
+      levels.get(0).add(value);
+      count++;
+      retained++;
+      if (retained >= maxRetained) {
+         compress();
+      }
+   }
+
+    /**
+     * Adds every value summarized by the sketch other to this sketch. The
+     * sketch other is not changed. If other is null, this method throws an
+     * IllegalArgumentException.
+     *
+     * @param other   the sketch to merge into this one
+     * @throws        IllegalArgumentException as per above
+     */
+   public void merge(QuantileSketch<T> other) {
+      if (other == null) {
+         throw new IllegalArgumentException();
+      }
+
+      while (levels.size() < other.levels.size()) {
+         levels.add(new ArrayList<>());
+      }
+      for (int h = 0; h < other.levels.size(); h++) {
+         levels.get(h).addAll(other.levels.get(h));
+      }
+      count += other.count;
+      retained += other.retained;
+      updateMaxRetained();
+      while (retained >= maxRetained) {
+         compress();
+      }
+   }
+
+    /**
+     * Returns the number of values added to this sketch, including those
+     * added through merge.
+     *
+     * @return        the number of values summarized
+     */
+   public long count() {
+      return count;
+   }
+
+    /**
+     * Returns the number of values this sketch currently holds in memory.
+     *
+     * @return        the number of retained values
+     */
+   public int retained() {
+      return retained;
+   }
+
+    /**
+     * Estimates the number of values added to this sketch that are less than
+     * or equal to value.
+     *
+     * @param value   the reference value
+     * @return        the estimated rank of value
+     */
+   public long rank(T value) {
+      long rank = 0;
+      for (int h = 0; h < levels.size(); h++) {
+         for (T item : levels.get(h)) {
+            if (comp.compare(item, value) <= 0) {
+               rank += 1L << h;
+            }
+         }
+      }
+      return rank;
+   }
+
+    /**
+     * Estimates the kth smallest value added to this sketch, counting
+     * duplicates. If k is less than one or greater than count, this method
+     * throws a NoSuchElementException.
+     *
+     * @param k       the k-selection value
+     * @return        an approximation of the kth minimum value
+     * @throws        NoSuchElementException as per above
+     */
+   public T kmin(long k) {
+      if (k < 1 || k > count) {
+         throw new NoSuchElementException();
+      }
+      return valueAtRank(k);
+   }
+
+    /**
+     * Estimates the kth largest value added to this sketch, counting
+     * duplicates. If k is less than one or greater than count, this method
+     * throws a NoSuchElementException.
+     *
+     * @param k       the k-selection value
+     * @return        an approximation of the kth maximum value
+     * @throws        NoSuchElementException as per above
+     */
+   public T kmax(long k) {
+      if (k < 1 || k > count) {
+         throw new NoSuchElementException();
+      }
+      return valueAtRank(count - k + 1);
+   }
+
+    /**
+     * Estimates the q-quantile of the values added to this sketch, where q
+     * is 0.5 for the median and 0.99 for the 99th percentile. If q is not
+     * between zero and one, this method throws an IllegalArgumentException.
+     * If the sketch is empty, this method throws a NoSuchElementException.
+     *
+     * @param q       the quantile fraction
+     * @return        an approximation of the q-quantile
+     * @throws        IllegalArgumentException as per above
+     * @throws        NoSuchElementException as per above
+     */
+   public T quantile(double q) {
+      if (!(q >= 0 && q <= 1)) {
+         throw new IllegalArgumentException();
+      }
+
+      if (count == 0) {
+         throw new NoSuchElementException();
+      }
+
+      return valueAtRank(Math.max(1, (long) Math.ceil(q * count)));
+   }
+
+   /**
+   * Returns the retained value whose cumulative weight first reaches rank.
+   *
+   * @param rank   the one-based rank to look up
+   * @return       the retained value covering rank
+   */
+   @SuppressWarnings("unchecked")
+   private T valueAtRank(long rank) {
+      Object[] items = new Object[retained];
+      long[] weights = new long[retained];
+      Integer[] order = new Integer[retained];
+      int n = 0;
+      for (int h = 0; h < levels.size(); h++) {
+         for (T item : levels.get(h)) {
+            items[n] = item;
+            weights[n] = 1L << h;
+            order[n] = n;
+            n++;
+         }
+      }
+      Arrays.sort(order, (i, j) -> comp.compare((T) items[i], (T) items[j]));
+
+      long total = 0;
+      for (int i = 0; i < n; i++) {
+         total += weights[order[i]];
+         if (total >= rank) {
+            return (T) items[order[i]];
+         }
+      }
+      return (T) items[order[n - 1]];
+   }
+
+   /**
+   * Compacts the lowest compactor that is at or over capacity. Its values
+   * are sorted and every other one, starting at a random offset, is moved
+   * up a level; the rest are discarded.
+   */
+   private void compress() {
+      for (int h = 0; h < levels.size(); h++) {
+         List<T> level = levels.get(h);
+         if (level.size() >= capacity(h)) {
+            if (h + 1 == levels.size()) {
+               levels.add(new ArrayList<>());
+            }
+            List<T> next = levels.get(h + 1);
+            level.sort(comp);
+            int kept = level.size() % 2 == 0 ? 0 : 1;
+            T leftover = kept == 1 ? level.get(level.size() - 1) : null;
+            for (int i = random.nextInt(2); i < level.size() - kept; i += 2) {
+               next.add(level.get(i));
+            }
+            level.clear();
+            if (kept == 1) {
+               level.add(leftover);
+            }
+            break;
+         }
+      }
+      retained = 0;
+      for (List<T> level : levels) {
+         retained += level.size();
+      }
+      updateMaxRetained();
+   }
+
+   /**
+   * Returns the capacity of the compactor at level h. The top compactor
+   * holds k values and each lower one holds two thirds of the one above.
+   *
+   * @param h   the level of the compactor
+   * @return    the number of values the compactor may hold
+   */
+   private int capacity(int h) {
+      int depth = levels.size() - h - 1;
+      return Math.max(MIN_CAPACITY, (int) Math.ceil(k * Math.pow(DECAY, depth)));
+   }
+
+   /**
+   * Recomputes the total number of values the sketch may hold before it
+   * must compress.
+   */
+   private void updateMaxRetained() {
+      int total = 0;
+      for (int h = 0; h < levels.size(); h++) {
+         total += capacity(h);
+      }
+      maxRetained = total;
+   }
+}
@@ -0,0 +1,98 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Checks that QuantileSketch keeps its rank error within epsilon. The values
+ * 0 to n - 1 are shuffled and added, so the true rank of value v is v + 1.
+ * Each sketch is then queried with kmin at evenly spaced ranks and with
+ * rank at random values, and the largest error, as a fraction of n, is
+ * kept. Every shuffle is sketched twice: once by a single sketch, and once
+ * by four sketches of a quarter each that are then merged. Run it with
+ * <pre>
+ * java QuantileSketchCheck
+ * </pre>
+ * It prints the worst error for each epsilon and exits with status 1 if
+ * any exceeded epsilon. The sketch compacts at random, so the error varies
+ * from run to run, but a correct sketch stays well inside the bound.
+ *
+ * @author  Jack Ryan Fulford (jrf0067@auburn.edu)
+ * @version 18 October 2026
+ *
+ */
+final class QuantileSketchCheck {
+
+   private static final int SIZE = 1_000_000;
+   private static final int SHUFFLES = 10;
+   private static final int QUERIES = 1_000;
+   private static final int PARTS = 4;
+
+   private QuantileSketchCheck() { }
+
+    /**
+     * Runs the check.
+     *
+     * @param args    ignored
+     */
+   public static void main(String[] args) {
+      List<Integer> values = new ArrayList<>(SIZE);
+      for (int i = 0; i < SIZE; i++) {
+         values.add(i);
+      }
+      Random random = new Random(6);
+      Comparator<Integer> comp = Comparator.naturalOrder();
+
+      boolean failed = false;
+      for (double epsilon : new double[] {0.05, 0.01}) {
+         double worst = 0;
+         for (int s = 0; s < SHUFFLES; s++) {
+            Collections.shuffle(values, random);
+
+            QuantileSketch<Integer> whole = new QuantileSketch<>(epsilon, comp);
+            for (Integer value : values) {
+               whole.add(value);
+            }
+            worst = Math.max(worst, error(whole, random));
+
+            QuantileSketch<Integer> merged = new QuantileSketch<>(epsilon, comp);
+            for (int p = 0; p < PARTS; p++) {
+               QuantileSketch<Integer> part = new QuantileSketch<>(epsilon, comp);
+               for (Integer value : values.subList(p * SIZE / PARTS, (p + 1) * SIZE / PARTS)) {
+                  part.add(value);
+               }
+               merged.merge(part);
+            }
+            worst = Math.max(worst, error(merged, random));
+         }
+         System.out.printf("epsilon %.3f: worst rank error %.4f over %d shuffles%n",
+                           epsilon, worst, SHUFFLES);
+         failed |= worst > epsilon;
+      }
+
+      if (failed) {
+         System.exit(1);
+      }
+   }
+
+    /**
+     * Returns the largest rank error of sketch, as a fraction of SIZE, over
+     * QUERIES kmin queries at evenly spaced ranks and QUERIES rank queries
+     * at random values.
+     *
+     * @param sketch  a sketch of the values 0 to SIZE - 1
+     * @param random  the source of the values to rank
+     * @return        the largest error found
+     */
+   private static double error(QuantileSketch<Integer> sketch, Random random) {
+      long worst = 0;
+      for (int q = 1; q <= QUERIES; q++) {
+         long rank = (long) SIZE * q / QUERIES;
+         worst = Math.max(worst, Math.abs(sketch.kmin(rank) + 1 - rank));
+         int value = random.nextInt(SIZE);
+         worst = Math.max(worst, Math.abs(sketch.rank(value) - (value + 1)));
+      }
+      return (double) worst / SIZE;
+   }
+}
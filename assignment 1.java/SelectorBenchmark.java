@@ -0,0 +1,139 @@
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Times the natural-order kernels of Selector against its general
+ * Comparator path: kmin and kmax on any Collection, and floor, ceiling,
+ * and range on a RandomAccess List. Each operation runs twice over the
+ * same boxed Integers, once with Comparator.naturalOrder(), which Selector
+ * compares as unboxed keys, and once with an equivalent lambda, which it
+ * has to call through the Comparator interface. Run it with
+ * <pre>
+ * java SelectorBenchmark
+ * </pre>
+ * It prints the best time of several rounds for each operation and the
+ * speedup of the kernel over the Comparator path.
+ *
+ * <p>Before timing, every method is warmed up with several different
+ * Comparators, as it would be in a program that selects by more than one
+ * order. This keeps the JIT from inlining the one Comparator a benchmark
+ * happens to use and so hiding the cost of the interface call.
+ *
+ * @author  Jack Ryan Fulford (jrf0067@auburn.edu)
+ * @version 18 October 2026
+ *
+ */
+final class SelectorBenchmark {
+
+   private static final int SIZE = 1 << 20;
+   private static final int WARMUP = 10;
+   private static final int ROUNDS = 10;
+
+   /** Results are folded in here so the JIT cannot drop the calls. */
+   private static int sink;
+
+   private SelectorBenchmark() { }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args    ignored
+     */
+   public static void main(String[] args) {
+      Random random = new Random(18);
+      List<Integer> list = new ArrayList<>(SIZE);
+      for (int i = 0; i < SIZE; i++) {
+         list.add(random.nextInt(SIZE));
+      }
+      LinkedList<Integer> linked = new LinkedList<>(list);
+      Integer key = SIZE / 2;
+      Integer low = SIZE / 4;
+      Integer high = SIZE / 4 + SIZE / 64;
+      int k = SIZE / 4;
+
+      Comparator<Integer> natural = Comparator.naturalOrder();
+      Comparator<Integer> lambda = (x, y) -> Integer.compare(x, y);
+      List<Comparator<Integer>> others = List.of(lambda, Integer::compare,
+         Comparator.comparingInt(x -> x), (x, y) -> x.compareTo(y));
+
+      run("ArrayList floor", list, others, natural, lambda,
+          (c, comp) -> Selector.floor(c, key, comp));
+      run("ArrayList ceiling", list, others, natural, lambda,
+          (c, comp) -> Selector.ceiling(c, key, comp));
+      run("ArrayList range", list, others, natural, lambda,
+          (c, comp) -> Selector.range(c, low, high, comp).size());
+      for (Collection<Integer> coll : List.of(list, linked)) {
+         String shape = coll == list ? "ArrayList" : "LinkedList";
+         run(shape + " kmin", coll, others, natural, lambda,
+             (c, comp) -> Selector.kmin(c, k, comp));
+         run(shape + " kmax", coll, others, natural, lambda,
+             (c, comp) -> Selector.kmax(c, k, comp));
+      }
+   }
+
+    /**
+     * Warms up op with every Comparator, then times it with natural and
+     * with lambda and prints both.
+     *
+     * @param name    the name to print
+     * @param coll    the values to select from
+     * @param others  the Comparators used only for warming up
+     * @param natural the natural-order Comparator
+     * @param lambda  the equivalent general Comparator
+     * @param op      the operation to time
+     */
+   private static void run(String name, Collection<Integer> coll,
+                           List<Comparator<Integer>> others,
+                           Comparator<Integer> natural, Comparator<Integer> lambda,
+                           Operation op) {
+      for (int i = 0; i < WARMUP; i++) {
+         for (Comparator<Integer> comp : others) {
+            time(coll, comp, op);
+         }
+         time(coll, natural, op);
+      }
+
+      long fast = Long.MAX_VALUE;
+      long slow = Long.MAX_VALUE;
+      for (int i = 0; i < ROUNDS; i++) {
+         fast = Math.min(fast, time(coll, natural, op));
+         slow = Math.min(slow, time(coll, lambda, op));
+      }
+      System.out.printf("%-20s natural %8.2f ms   comparator %8.2f ms   speedup %5.2fx%n",
+                        name, fast / 1e6, slow / 1e6, (double) slow / fast);
+   }
+
+    /**
+     * Runs op once and returns how long it took.
+     *
+     * @param coll    the values to select from
+     * @param comp    the Comparator to pass
+     * @param op      the operation to run
+     * @return        the elapsed time in nanoseconds
+     */
+   private static long time(Collection<Integer> coll, Comparator<Integer> comp,
+                            Operation op) {
+      long start = System.nanoTime();
+      sink += op.apply(coll, comp);
+      return System.nanoTime() - start;
+   }
+
+    /**
+     * One Selector call, reduced to an int so its result can be kept.
+     */
+   private interface Operation {
+
+      /**
+       * Runs the call.
+       *
+       * @param coll    the values to select from
+       * @param comp    the Comparator to pass
+       * @return        an int derived from the result
+       */
+      int apply(Collection<Integer> coll, Comparator<Integer> comp);
+   }
+}
@@ -0,0 +1,211 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * A sorted snapshot of a Collection that answers the Selector queries
+ * floor, ceiling, range, kmin, and kmax by binary search. The snapshot
+ * is sorted once when the index is built, so each query costs O(log n)
+ * instead of a full scan. Later changes to the source Collection are
+ * not reflected in the index.
+ *
+ * <p>Values that the Comparator considers equal count as one distinct
+ * value for kmin and kmax, whereas Selector tells them apart with equals,
+ * so the two agree when the Comparator is consistent with equals. When equal values tie for floor or ceiling,
+ * the one that came first in the source Collection is returned, as
+ * Selector does.
+ *
+ * @author  Jack Ryan Fulford (jrf0067@auburn.edu)
+ * @version 18 October 2026
+ *
+ */
+public final class SelectorIndex<T> {
+
+   private final List<T> sorted;
+   private final Comparator<T> comp;
+   private final int[] starts;
+
+    /**
+     * Builds an index over a snapshot of the Collection coll, ordered by the
+     * Comparator comp. If either coll or comp is null, this constructor
+     * throws an IllegalArgumentException. This constructor will not change
+     * coll in any way.
+     *
+     * @param coll    the Collection to index
+     * @param comp    the Comparator that defines the total order on T
+     * @throws        IllegalArgumentException as per above
+     */
+   public SelectorIndex(Collection<T> coll, Comparator<T> comp) {
+      if (coll == null) {
+         throw new IllegalArgumentException();
+      }
+
+      if (comp == null) {
+         throw new IllegalArgumentException();
+      }
+
+      ArrayList<T> copy = new ArrayList<>(coll);
+      copy.sort(comp);
+      this.sorted = Collections.unmodifiableList(copy);
+      this.comp = comp;
+
+      int[] groupStarts = new int[copy.size()];
+      int numGroups = 0;
+      for (int i = 0; i < copy.size(); i++) {
+         if (i == 0 || comp.compare(copy.get(i - 1), copy.get(i)) != 0) {
+            groupStarts[numGroups++] = i;
+         }
+      }
+      this.starts = Arrays.copyOf(groupStarts, numGroups);
+   }
+
+    /**
+     * Returns the number of values in the index.
+     *
+     * @return        the number of values in the index
+     */
+   public int size() {
+      return sorted.size();
+   }
+
+    /**
+     * Returns the number of distinct values in the index.
+     *
+     * @return        the number of distinct values in the index
+     */
+   public int unique() {
+      return starts.length;
+   }
+
+    /**
+     * Selects the kth minimum value in the index. If the index is empty or if
+     * there is no kth minimum value, this method throws a
+     * NoSuchElementException.
+     *
+     * @param k       the k-selection value
+     * @return        the kth minimum value
+     * @throws        NoSuchElementException as per above
+     */
+   public T kmin(int k) {
+      if (k < 1 || k > starts.length) {
+         throw new NoSuchElementException();
+      }
+      return sorted.get(starts[k - 1]);
+   }
+
+    /**
+     * Selects the kth maximum value in the index. If the index is empty or if
+     * there is no kth maximum value, this method throws a
+     * NoSuchElementException.
+     *
+     * @param k       the k-selection value
+     * @return        the kth maximum value
+     * @throws        NoSuchElementException as per above
+     */
+   public T kmax(int k) {
+      if (k < 1 || k > starts.length) {
+         throw new NoSuchElementException();
+      }
+      return sorted.get(starts[starts.length - k]);
+   }
+
+    /**
+     * Returns a view of all the values in the index that are greater than or
+     * equal to low and less than or equal to high, in ascending order. No
+     * values are copied. Any duplicate values are included. If no values fall
+     * into the specified range, this method throws a NoSuchElementException.
+     *
+     * @param low     the lower bound of the range
+     * @param high    the upper bound of the range
+     * @return        an unmodifiable view of the values between low and high
+     * @throws        NoSuchElementException as per above
+     */
+   public List<T> range(T low, T high) {
+      int from = lowerBound(low);
+      int to = upperBound(high);
+      if (from >= to) {
+         throw new NoSuchElementException();
+      }
+      return sorted.subList(from, to);
+   }
+
+    /**
+     * Returns the largest value in the index that is less than or equal to
+     * key. The value of key does not have to be in the index. If there is no
+     * qualifying value, this method throws a NoSuchElementException.
+     *
+     * @param key     the reference value
+     * @return        the floor value of key
+     * @throws        NoSuchElementException as per above
+     */
+   public T floor(T key) {
+      int last = upperBound(key) - 1;
+      if (last < 0) {
+         throw new NoSuchElementException();
+      }
+      return sorted.get(lowerBound(sorted.get(last)));
+   }
+
+    /**
+     * Returns the smallest value in the index that is greater than or equal
+     * to key. The value of key does not have to be in the index. If there is
+     * no qualifying value, this method throws a NoSuchElementException.
+     *
+     * @param key     the reference value
+     * @return        the ceiling value of key
+     * @throws        NoSuchElementException as per above
+     */
+   public T ceiling(T key) {
+      int first = lowerBound(key);
+      if (first == sorted.size()) {
+         throw new NoSuchElementException();
+      }
+      return sorted.get(first);
+   }
+
+   /**
+   * Returns the index of the first value that is not less than key.
+   *
+   * @param key   the reference value
+   * @return      the first index i with sorted[i] greater than or equal to key
+   */
+   private int lowerBound(T key) {
+      int left = 0;
+      int right = sorted.size();
+      while (left < right) {
+         int middle = (left + right) >>> 1;
+         if (comp.compare(sorted.get(middle), key) < 0) {
+            left = middle + 1;
+         }
+         else {
+            right = middle;
+         }
+      }
+      return left;
+   }
+
+   /**
+   * Returns the index of the first value that is greater than key.
+   *
+   * @param key   the reference value
+   * @return      the first index i with sorted[i] greater than key
+   */
+   private int upperBound(T key) {
+      int left = 0;
+      int right = sorted.size();
+      while (left < right) {
+         int middle = (left + right) >>> 1;
+         if (comp.compare(sorted.get(middle), key) <= 0) {
+            left = middle + 1;
+         }
+         else {
+            right = middle;
+         }
+      }
+      return left;
+   }
+}
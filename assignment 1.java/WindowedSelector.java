@@ -0,0 +1,212 @@
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+
+/**
+ * Answers the Selector queries min, max, kmin, and kmax over a sliding
+ * window of a stream, such as the last w samples of a metric. Values are
+ * pushed at the newest end and evicted from the oldest end, and every
+ * operation costs a bounded amount of work rather than a window scan.
+ *
+ * <p>min and max come from monotonic deques, which hold only the values
+ * that could still become the window's minimum or maximum. Each value
+ * enters and leaves each deque once, so push, evict, min, and max are
+ * amortized O(1). kmin and kmax use a size-augmented balanced tree over
+ * the window's distinct values and cost O(log w). min and max return the
+ * oldest of equal candidates.
+ *
+ * <p>kmin and kmax count values that the Comparator considers equal as one
+ * value. This differs from Selector, which tells values apart with equals:
+ * with a Comparator that is not consistent with equals, a window may have
+ * fewer distinct values here than Selector would find in the same values.
+ *
+ * @author  Jack Ryan Fulford (jrf0067@auburn.edu)
+ * @version 18 October 2026
+ *
+ */
+public final class WindowedSelector<T> {
+
+   private final Comparator<T> comp;
+   private final int capacity;
+   private final ArrayDeque<Entry<T>> window;
+   private final ArrayDeque<Entry<T>> minDeque;
+   private final ArrayDeque<Entry<T>> maxDeque;
+   private final OrderStatisticTree<T> tree;
+
+    /**
+     * Creates an empty window with no size limit, ordered by the Comparator
+     * comp. Values leave the window only through evict. If comp is null, this
+     * constructor throws an IllegalArgumentException.
+     *
+     * @param comp    the Comparator that defines the total order on T
+     * @throws        IllegalArgumentException as per above
+     */
+   public WindowedSelector(Comparator<T> comp) {
+      this(Integer.MAX_VALUE, comp);
+   }
+
+    /**
+     * Creates an empty window that holds at most capacity values, ordered by
+     * the Comparator comp. Once the window is full, each push first evicts
+     * the oldest value. If comp is null or capacity is less than one, this
+     * constructor throws an IllegalArgumentException.
+     *
+     * @param capacity the maximum number of values in the window
+     * @param comp     the Comparator that defines the total order on T
+     * @throws         IllegalArgumentException as per above
+     */
+   public WindowedSelector(int capacity, Comparator<T> comp) {
+      if (comp == null) {
+         throw new IllegalArgumentException();
+      }
+
+      if (capacity < 1) {
+         throw new IllegalArgumentException();
+      }
+
+      this.comp = comp;
+      this.capacity = capacity;
+      this.window = new ArrayDeque<>();
+      this.minDeque = new ArrayDeque<>();
+      this.maxDeque = new ArrayDeque<>();
+      this.tree = new OrderStatisticTree<>(comp);
+   }
+
+    /**
+     * Adds value at the newest end of the window, first evicting the oldest
+     * value if the window is full.
+     *
+     * @param value   the value to add
+     */
+   public void push(T value) {
+      if (window.size() == capacity) {
+         evict();
+      }
+
+      Entry<T> entry = new Entry<>(value);
+      window.addLast(entry);
+      while (!minDeque.isEmpty() && comp.compare(minDeque.peekLast().value, value) > 0) {
+         minDeque.pollLast();
+      }
+      minDeque.addLast(entry);
+      while (!maxDeque.isEmpty() && comp.compare(maxDeque.peekLast().value, value) < 0) {
+         maxDeque.pollLast();
+      }
+      maxDeque.addLast(entry);
+      tree.add(value);
+   }
+
+    /**
+     * Removes and returns the oldest value in the window. If the window is
+     * empty, this method throws a NoSuchElementException.
+     *
+     * @return        the value removed
+     * @throws        NoSuchElementException as per above
+     */
+   public T evict() {
+      if (window.isEmpty()) {
+         throw new NoSuchElementException();
+      }
+
+      Entry<T> oldest = window.pollFirst();
+      if (minDeque.peekFirst() == oldest) {
+         minDeque.pollFirst();
+      }
+      if (maxDeque.peekFirst() == oldest) {
+         maxDeque.pollFirst();
+      }
+      tree.remove(oldest.value);
+      return oldest.value;
+   }
+
+    /**
+     * Returns the number of values in the window.
+     *
+     * @return        the number of values in the window
+     */
+   public int size() {
+      return window.size();
+   }
+
+    /**
+     * Returns true if the window holds no values.
+     *
+     * @return        true if the window is empty
+     */
+   public boolean isEmpty() {
+      return window.isEmpty();
+   }
+
+    /**
+     * Returns the minimum value in the window. If the window is empty, this
+     * method throws a NoSuchElementException.
+     *
+     * @return        the minimum value in the window
+     * @throws        NoSuchElementException as per above
+     */
+   public T min() {
+      if (window.isEmpty()) {
+         throw new NoSuchElementException();
+      }
+      return minDeque.peekFirst().value;
+   }
+
+    /**
+     * Returns the maximum value in the window. If the window is empty, this
+     * method throws a NoSuchElementException.
+     *
+     * @return        the maximum value in the window
+     * @throws        NoSuchElementException as per above
+     */
+   public T max() {
+      if (window.isEmpty()) {
+         throw new NoSuchElementException();
+      }
+      return maxDeque.peekFirst().value;
+   }
+
+    /**
+     * Selects the kth minimum distinct value in the window. If the window is
+     * empty or if there is no kth minimum value, this method throws a
+     * NoSuchElementException.
+     *
+     * @param k       the k-selection value
+     * @return        the kth minimum value in the window
+     * @throws        NoSuchElementException as per above
+     */
+   public T kmin(int k) {
+      if (k < 1 || k > tree.distinct()) {
+         throw new NoSuchElementException();
+      }
+      return tree.kth(k - 1);
+   }
+
+    /**
+     * Selects the kth maximum distinct value in the window. If the window is
+     * empty or if there is no kth maximum value, this method throws a
+     * NoSuchElementException.
+     *
+     * @param k       the k-selection value
+     * @return        the kth maximum value in the window
+     * @throws        NoSuchElementException as per above
+     */
+   public T kmax(int k) {
+      int distinct = tree.distinct();
+      if (k < 1 || k > distinct) {
+         throw new NoSuchElementException();
+      }
+      return tree.kth(distinct - k);
+   }
+
+   /**
+   * A value in the window. Entries are compared by identity, so that
+   * equal values can be told apart when they leave the deques.
+   */
+   private static final class Entry<T> {
+      private final T value;
+
+      private Entry(T value) {
+         this.value = value;
+      }
+   }
+}
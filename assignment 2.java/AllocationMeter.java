@@ -0,0 +1,93 @@
+import java.lang.management.ManagementFactory;
+import java.util.function.IntSupplier;
+
+/**
+* Measures how many bytes a call allocates, for the allocation checks that
+* guard hot paths without a benchmark harness. Each call is warmed up until
+* the JIT compiles it, then the current thread's allocated byte count is
+* read from com.sun.management.ThreadMXBean before and after a further loop
+* of calls. SelectorAllocationCheck uses it from this directory, and the
+* checks of other assignments compile against it with
+* <pre>
+* javac -sourcepath "../assignment 2.java" -d out *.java
+* </pre>
+*
+* @author   Jack Ryan Fulford (jrf0067@auburn.edu)
+* @version  10/18/26
+*
+*/
+final class AllocationMeter {
+
+   /** The number of calls made before measuring. */
+   private static final int WARMUP = 20_000;
+
+   /** The number of calls measured. */
+   private static final int CALLS = 10_000;
+
+   private static final com.sun.management.ThreadMXBean THREADS =
+      (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+   /** Results are folded in here so the JIT cannot drop the calls. */
+   private static int sink;
+
+   private AllocationMeter() { }
+
+   /**
+   * The supported method turns on allocation counting for the current
+   * thread, or prints why it cannot.
+   * @return true if allocations can be measured on this JVM.
+   */
+   static boolean supported() {
+      if (!THREADS.isThreadAllocatedMemorySupported()) {
+         System.out.println("Thread allocation counting is not supported on this JVM.");
+         return false;
+      }
+      THREADS.setThreadAllocatedMemoryEnabled(true);
+      return true;
+   }
+
+   /**
+   * The check method measures the bytes allocated by CALLS calls and
+   * reports them against a limit.
+   * @param name - the name to report.
+   * @param call - the call to measure.
+   * @param bytesPerCall - the bytes each call may allocate.
+   * @return true if the calls allocated more than the limit.
+   */
+   static boolean check(String name, IntSupplier call, long bytesPerCall) {
+      long bytes = allocated(call);
+      long limit = bytesPerCall * CALLS;
+      System.out.println(name + ": " + bytes + " bytes over " + CALLS + " calls"
+         + (limit > 0 ? ", limit " + limit : ""));
+      return bytes > limit;
+   }
+
+   /**
+   * The allocated method warms up call, then returns the bytes allocated by
+   * CALLS more calls, less what reading the counter itself allocates.
+   * @param call - the call to measure.
+   * @return the bytes allocated by the measured calls.
+   */
+   private static long allocated(IntSupplier call) {
+      for (int i = 0; i < WARMUP; i++) {
+         sink += call.getAsInt();
+      }
+
+      long overhead = allocatedBytes();
+      overhead = allocatedBytes() - overhead;
+      long before = allocatedBytes();
+      for (int i = 0; i < CALLS; i++) {
+         sink += call.getAsInt();
+      }
+      return allocatedBytes() - before - overhead;
+   }
+
+   /**
+   * The allocatedBytes method returns the bytes allocated so far by the
+   * current thread.
+   * @return the allocated byte count.
+   */
+   private static long allocatedBytes() {
+      return THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+   }
+}
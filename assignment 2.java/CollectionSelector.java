@@ -1,3 +1,4 @@
+import java.nio.IntBuffer;
 import java.util.Arrays;
 
 /**
@@ -17,6 +18,10 @@ public final class Selector {
      *
      */
     private Selector() { }
+
+   /** The largest array length every JVM can allocate. */
+   private static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
 /**
    * The min method returns the minimum element found in an array
    * of ints.
@@ -57,120 +62,157 @@ public final class Selector {
       return max;
    }
    
-   /**
-   * The unique method is a private method that find the number of
-   * unique elements in an array of integers.
-   * @param a - the array of integers.
-   * @return numUnique - the number of unique elements.
-   */
-   private static int unique(int[] a) {
-      int numUnique = 1;
-      int n = a.length;
-      for (int i = 1; i < n; i++) {
-         if (a[i - 1] == a[i]) {
-            continue;
-         }
-         else
-         {
-            numUnique++;
-         }
-      }
-      return numUnique;
-   }
-   
    /**
    * The kmin method selects the k-th minimum value from a given array. A
    * value is the k-th minimum if and only if there are exactly k - 1 distinct
-   * values less than it in the array.
+   * values less than it in the array. This method allocates the working
+   * buffers of the overload that takes them; that overload allocates nothing.
    * @param a - the array of integers.
    * @param k - the value of k.
    * @return kMin - the kMin of the array a.
    */
    public static int kmin(int[] a, int k) {
-      if (a == null) {
-         throw new IllegalArgumentException();
-      }
-      
-      if (a.length == 0) {
-         throw new IllegalArgumentException();
-      }
-      
-      if (a.length < k) {
-         throw new IllegalArgumentException();
-      }
-      
-      if (k < 1) {
-         throw new IllegalArgumentException();
-      }
-      
-      int[] copyA = Arrays.copyOf(a, a.length);
-      
-      Arrays.sort(copyA);
-      
-      int distinctValues = unique(copyA);
-      
-      if (distinctValues < k) {
-         throw new IllegalArgumentException();
-      }
-   
-      int kCount = 1;
-      int counter = 1;
-      int kMin = copyA[0];
-      while ( (kCount < k) && (counter < copyA.length)) {
-         if (copyA[counter] > kMin) {
-            kMin = copyA[counter];
-            kCount++;
-         }
-         counter++;
-      }          
-      return kMin;
+      int n = (a == null) ? 0 : a.length;
+      return kmin(a, k, new int[n], new int[tableLength(n)]);
    }
    
    /**
    * The kmax method selects the k-th maximum value from a given array. A
-   * value is the k-th minimum if and only if there are exactly k - 1 distinct
-   * values greater than it in the array.
+   * value is the k-th maximum if and only if there are exactly k - 1 distinct
+   * values greater than it in the array. This method allocates the working
+   * buffers of the overload that takes them; that overload allocates nothing.
    * @param a - the array of integers.
    * @param k - the value of k.
    * @return kMax - the k-th maximum value of the array a.
    */
    public static int kmax(int[] a, int k) {
-      if (a == null) {
-         throw new IllegalArgumentException();
-      }
-      
-      if (a.length == 0) {
-         throw new IllegalArgumentException();
-      }
-      
-      if (a.length < k) {
-         throw new IllegalArgumentException();
-      }
-      
-      if (k < 1) {
-         throw new IllegalArgumentException();
-      }
-      
-      int[] copyA = Arrays.copyOf(a, a.length);
-      
-      Arrays.sort(copyA);
-      int distinctValues = unique(copyA);
-      
-      if (distinctValues < k) {
-         throw new IllegalArgumentException();
-      }
-      
-      int kCount = 1;
-      int counter = copyA.length - 1;
-      int kMax = copyA[copyA.length  - 1];
-      while ( (kCount < k) && (counter > -1) ) {
-         if (copyA[counter] < kMax) {
-            kMax = copyA[counter];
-            kCount++;
-         }
-         counter--;
-      }
-      return kMax;
+      int n = (a == null) ? 0 : a.length;
+      return kmax(a, k, new int[n], new int[tableLength(n)]);
+   }
+   
+   /**
+   * The tableLength method returns the smallest hash table length that
+   * kmin and kmax accept for an array of n values: twice the length of the
+   * array, or the largest array length if that is smaller.
+   * @param n - the length of the array to select from.
+   * @return the minimum length of the hash table.
+   */
+   public static int tableLength(int n) {
+      return (int) Math.min(2L * n, MAX_ARRAY_LENGTH);
+   }
+   
+   /**
+   * The kmin method selects the k-th minimum value from a given array of
+   * integers, using values and table as working storage so that repeated
+   * calls allocate nothing. A value is the k-th minimum if and only if
+   * there are exactly k - 1 distinct values less than it in the array. The
+   * distinct values are gathered with a hash table and the k-th is found
+   * by introselect, so no sort is done. The array a is not changed; the
+   * contents of values and table are overwritten.
+   * @param a - the array of integers.
+   * @param k - the value of k.
+   * @param values - a buffer of at least a.length integers.
+   * @param table - a buffer of at least tableLength(a.length) integers.
+   * @return the k-th minimum value of the array a.
+   */
+   public static int kmin(int[] a, int k, int[] values, int[] table) {
+      int distinctValues = distinct(a, k, values, table);
+      return select(values, 0, distinctValues - 1, k - 1);
+   }
+   
+   /**
+   * The kmax method selects the k-th maximum value from a given array of
+   * integers, using values and table as working storage so that repeated
+   * calls allocate nothing. A value is the k-th maximum if and only if
+   * there are exactly k - 1 distinct values greater than it in the array.
+   * The array a is not changed; the contents of values and table are
+   * overwritten.
+   * @param a - the array of integers.
+   * @param k - the value of k.
+   * @param values - a buffer of at least a.length integers.
+   * @param table - a buffer of at least tableLength(a.length) integers.
+   * @return the k-th maximum value of the array a.
+   */
+   public static int kmax(int[] a, int k, int[] values, int[] table) {
+      int distinctValues = distinct(a, k, values, table);
+      return select(values, 0, distinctValues - 1, distinctValues - k);
+   }
+   
+   /**
+   * The kmin method selects the k-th minimum value from a given array of
+   * longs, using values and table as working storage so that repeated
+   * calls allocate nothing. A value is the k-th minimum if and only if
+   * there are exactly k - 1 distinct values less than it in the array. The
+   * distinct values are gathered with a hash table and the k-th is found
+   * by introselect, so no sort is done. The array a is not changed; the
+   * contents of values and table are overwritten.
+   * @param a - the array of longs.
+   * @param k - the value of k.
+   * @param values - a buffer of at least a.length longs.
+   * @param table - a buffer of at least tableLength(a.length) integers.
+   * @return the k-th minimum value of the array a.
+   */
+   public static long kmin(long[] a, int k, long[] values, int[] table) {
+      int distinctValues = distinct(a, k, values, table);
+      return select(values, 0, distinctValues - 1, k - 1);
+   }
+   
+   /**
+   * The kmax method selects the k-th maximum value from a given array of
+   * longs, using values and table as working storage so that repeated
+   * calls allocate nothing. A value is the k-th maximum if and only if
+   * there are exactly k - 1 distinct values greater than it in the array.
+   * The array a is not changed; the contents of values and table are
+   * overwritten.
+   * @param a - the array of longs.
+   * @param k - the value of k.
+   * @param values - a buffer of at least a.length longs.
+   * @param table - a buffer of at least tableLength(a.length) integers.
+   * @return the k-th maximum value of the array a.
+   */
+   public static long kmax(long[] a, int k, long[] values, int[] table) {
+      int distinctValues = distinct(a, k, values, table);
+      return select(values, 0, distinctValues - 1, distinctValues - k);
+   }
+   
+   /**
+   * The kmin method selects the k-th minimum value from a given array of
+   * doubles, using values and table as working storage so that repeated
+   * calls allocate nothing. A value is the k-th minimum if and only if
+   * there are exactly k - 1 distinct values less than it in the array.
+   * Values are ordered and told apart as by Double.compare, so -0.0 is
+   * less than 0.0 and NaN is the largest value. Each double is held in
+   * values as a long key with the same order, so the long code does the
+   * work and one long buffer serves both overloads. The array a is not
+   * changed; the contents of values and table are overwritten.
+   * @param a - the array of doubles.
+   * @param k - the value of k.
+   * @param values - a buffer of at least a.length longs.
+   * @param table - a buffer of at least tableLength(a.length) integers.
+   * @return the k-th minimum value of the array a.
+   */
+   public static double kmin(double[] a, int k, long[] values, int[] table) {
+      int distinctValues = distinct(a, k, values, table);
+      return fromKey(select(values, 0, distinctValues - 1, k - 1));
+   }
+   
+   /**
+   * The kmax method selects the k-th maximum value from a given array of
+   * doubles, using values and table as working storage so that repeated
+   * calls allocate nothing. A value is the k-th maximum if and only if
+   * there are exactly k - 1 distinct values greater than it in the array.
+   * Values are ordered and told apart as by Double.compare, as in kmin.
+   * The array a is not changed; the contents of values and table are
+   * overwritten.
+   * @param a - the array of doubles.
+   * @param k - the value of k.
+   * @param values - a buffer of at least a.length longs.
+   * @param table - a buffer of at least tableLength(a.length) integers.
+   * @return the k-th maximum value of the array a.
+   */
+   public static double kmax(double[] a, int k, long[] values, int[] table) {
+      int distinctValues = distinct(a, k, values, table);
+      return fromKey(select(values, 0, distinctValues - 1, distinctValues - k));
    }
    
    /**
@@ -213,9 +255,100 @@ public final class Selector {
       return arrWithRange;
    }
 
+   /**
+   * The range method copies, in order, all values from a given array that
+   * are greater than or equal to low and less than or equal to high into
+   * the caller's array out, in a single pass that allocates nothing. If
+   * there are more matches than out can hold, the extra matches are
+   * counted but not written.
+   *
+   * @param a - the array of integers.
+   * @param low - the lowerbound of the range.
+   * @param high - the upperbound of the range.
+   * @param out - the array that receives the matching elements.
+   * @return the total number of elements of a between low and high.
+   */
+   public static int range(int[] a, int low, int high, int[] out) {
+      if ( (a == null) || (a.length == 0) || (out == null) ) {
+         throw new IllegalArgumentException();
+      }
+      
+      int counter = 0;
+      for (int element : a) {
+         if (low <= element && element <= high) {
+            if (counter < out.length) {
+               out[counter] = element;
+            }
+            counter++;
+         }
+      }
+      return counter;
+   }
+   
+   /**
+   * The range method puts, in order, all values from a given array that
+   * are greater than or equal to low and less than or equal to high into
+   * the buffer out, starting at its position, in a single pass that
+   * allocates nothing. If there are more matches than out has remaining,
+   * the extra matches are counted but not written.
+   *
+   * @param a - the array of integers.
+   * @param low - the lowerbound of the range.
+   * @param high - the upperbound of the range.
+   * @param out - the buffer that receives the matching elements.
+   * @return the total number of elements of a between low and high.
+   */
+   public static int range(int[] a, int low, int high, IntBuffer out) {
+      if ( (a == null) || (a.length == 0) || (out == null) ) {
+         throw new IllegalArgumentException();
+      }
+      
+      int counter = 0;
+      for (int element : a) {
+         if (low <= element && element <= high) {
+            if (out.hasRemaining()) {
+               out.put(element);
+            }
+            counter++;
+         }
+      }
+      return counter;
+   }
+
+   /**
+   * The rangeCounts method counts, for each two-element query {low, high},
+   * the values in a given array that are greater than or equal to low and
+   * less than or equal to high. The array is sorted once into an
+   * IntSortedIndex and every query is answered by binary search, so q
+   * queries cost O((n + q) log n) rather than q full scans.
+   *
+   * @param a - the array of integers.
+   * @param queries - the {low, high} intervals.
+   * @return the number of elements of a in each interval.
+   */
+   public static int[] rangeCounts(int[] a, int[][] queries) {
+      return new IntSortedIndex(a).rangeCounts(queries);
+   }
+
+   /**
+   * The ranges method selects, for each two-element query {low, high}, all
+   * values from a given array that are greater than or equal to low and
+   * less than or equal to high. The array is sorted once and each result
+   * is copied from it in parallel, so the values of each result are in
+   * ascending order rather than in their original order.
+   *
+   * @param a - the array of integers.
+   * @param queries - the {low, high} intervals.
+   * @return the elements of a in each interval, in ascending order.
+   */
+   public static int[][] ranges(int[] a, int[][] queries) {
+      return new IntSortedIndex(a).ranges(queries, true);
+   }
+
    /**
    * The ceiling method selects from a given array the smallest value that
-   * is greater than or equal to key.
+   * is greater than or equal to key, in a single pass that allocates
+   * nothing.
    * @param a - the array of integers.
    * @param key - the lower bound.
    * @return the smallest value that is greater than or equal to key.
@@ -225,27 +358,25 @@ public final class Selector {
          throw new IllegalArgumentException();
       }
       
-      int count = 0;
+      boolean found = false;
+      int ceiling = Integer.MAX_VALUE;
       for (int element : a) {
-         if (key <= element) {
-            count++;
+         if (key <= element && element <= ceiling) {
+            ceiling = element;
+            found = true;
          }
       }
       
-      int greaterThanKey[] = new int[count];
-      count = 0;
-      for (int element : a) {
-         if (key <= element) {
-            greaterThanKey[count] = element;
-            count++;
-         }
+      if (!found) {
+         throw new IllegalArgumentException();
       }
-      return min(greaterThanKey);
+      return ceiling;
    }
    
    /**
    * The floor method selects from a given array the largest value
-   * that is less than or equal to key.
+   * that is less than or equal to key, in a single pass that allocates
+   * nothing.
    * @param a - the array of integers.
    * @param key - the upper bound
    * @return the largest value that is less than or equal to key.
@@ -255,21 +386,383 @@ public final class Selector {
          throw new IllegalArgumentException();
       }
       
-      int count = 0;
+      boolean found = false;
+      int floor = Integer.MIN_VALUE;
       for (int element : a) {
-         if (element <= key) {
-            count++;
+         if (element <= key && floor <= element) {
+            floor = element;
+            found = true;
          }
       }
       
-      int lessThanKey[] = new int[count];
-      count = 0;
-      for (int element : a) {
-         if (element <= key) {
-            lessThanKey[count] = element;
-            count++;
+      if (!found) {
+         throw new IllegalArgumentException();
+      }
+      return floor;
+   }
+   
+   /**
+   * The distinct method validates the arguments of kmin and kmax, copies
+   * each distinct value of a once into the front of values, and returns
+   * how many there are.
+   * @param a - the array of integers.
+   * @param k - the value of k.
+   * @param values - the buffer for the distinct values.
+   * @param table - the buffer for the hash table.
+   * @return the number of distinct values in a.
+   */
+   private static int distinct(int[] a, int k, int[] values, int[] table) {
+      if ( (a == null) || (values == null) ) {
+         throw new IllegalArgumentException();
+      }
+      checkBuffers(a.length, k, values.length, table);
+      System.arraycopy(a, 0, values, 0, a.length);
+      return compact(values, a.length, k, table);
+   }
+   
+   /**
+   * The distinct method validates the arguments of kmin and kmax, copies
+   * each distinct value of a once into the front of values, and returns
+   * how many there are.
+   * @param a - the array of longs.
+   * @param k - the value of k.
+   * @param values - the buffer for the distinct values.
+   * @param table - the buffer for the hash table.
+   * @return the number of distinct values in a.
+   */
+   private static int distinct(long[] a, int k, long[] values, int[] table) {
+      if ( (a == null) || (values == null) ) {
+         throw new IllegalArgumentException();
+      }
+      checkBuffers(a.length, k, values.length, table);
+      System.arraycopy(a, 0, values, 0, a.length);
+      return compact(values, a.length, k, table);
+   }
+   
+   /**
+   * The distinct method validates the arguments of kmin and kmax, copies
+   * the key of each distinct value of a once into the front of values,
+   * and returns how many there are.
+   * @param a - the array of doubles.
+   * @param k - the value of k.
+   * @param values - the buffer for the distinct keys.
+   * @param table - the buffer for the hash table.
+   * @return the number of distinct values in a.
+   */
+   private static int distinct(double[] a, int k, long[] values, int[] table) {
+      if ( (a == null) || (values == null) ) {
+         throw new IllegalArgumentException();
+      }
+      checkBuffers(a.length, k, values.length, table);
+      for (int i = 0; i < a.length; i++) {
+         values[i] = toKey(a[i]);
+      }
+      return compact(values, a.length, k, table);
+   }
+   
+   /**
+   * The checkBuffers method throws an IllegalArgumentException unless an
+   * array of the given length holds a k-th value and values and table are
+   * long enough to select it.
+   * @param length - the length of the array to select from.
+   * @param k - the value of k.
+   * @param valuesLength - the length of the values buffer.
+   * @param table - the buffer for the hash table.
+   */
+   private static void checkBuffers(int length, int k, int valuesLength, int[] table) {
+      if ( (length == 0) || (valuesLength < length) ) {
+         throw new IllegalArgumentException();
+      }
+      
+      if ( (table == null) || (table.length < tableLength(length)) ) {
+         throw new IllegalArgumentException();
+      }
+      
+      if ( (k < 1) || (length < k) ) {
+         throw new IllegalArgumentException();
+      }
+   }
+   
+   /**
+   * The compact method moves each distinct value of values[0..n) once to
+   * the front of values and returns how many there are. table is used as
+   * an open-addressed table of indexes into the kept values, with 0
+   * marking an empty slot. A value is only ever written at or before the
+   * index it was read from, so the compaction can work in place.
+   * @param values - the values, overwritten by the distinct values.
+   * @param n - the number of values.
+   * @param k - the value of k.
+   * @param table - the buffer for the hash table.
+   * @return the number of distinct values.
+   */
+   private static int compact(int[] values, int n, int k, int[] table) {
+      int tableSize = tableLength(n);
+      Arrays.fill(table, 0, tableSize, 0);
+      int count = 0;
+      for (int i = 0; i < n; i++) {
+         int key = values[i];
+         int slot = slot(hash(key), tableSize);
+         while (true) {
+            int index = table[slot];
+            if (index == 0) {
+               values[count] = key;
+               count++;
+               table[slot] = count;
+               break;
+            }
+            if (values[index - 1] == key) {
+               break;
+            }
+            slot++;
+            if (slot == tableSize) {
+               slot = 0;
+            }
          }
       }
-      return max(lessThanKey);
+      
+      if (count < k) {
+         throw new IllegalArgumentException();
+      }
+      return count;
+   }
+   
+   /**
+   * The select method returns the value that would be at index rank if
+   * a[lo..hi] were sorted, rearranging a[lo..hi] as it goes. This is an
+   * introselect: quickselect with a median-of-three pivot and a three-way
+   * partition, which sorts the remaining subrange outright if the depth
+   * exceeds 2 lg n.
+   * @param a - the array of integers.
+   * @param lo - the first index of the subrange.
+   * @param hi - the last index of the subrange.
+   * @param rank - the index of the value to select.
+   * @return the value of the given rank.
+   */
+   private static int select(int[] a, int lo, int hi, int rank) {
+      int depth = 2 * (32 - Integer.numberOfLeadingZeros(hi - lo + 1));
+      while (lo < hi) {
+         if (depth == 0) {
+            Arrays.sort(a, lo, hi + 1);
+            return a[rank];
+         }
+         depth--;
+         int mid = (lo + hi) >>> 1;
+         if (a[mid] < a[lo]) {
+            swap(a, mid, lo);
+         }
+         if (a[hi] < a[lo]) {
+            swap(a, hi, lo);
+         }
+         if (a[hi] < a[mid]) {
+            swap(a, hi, mid);
+         }
+         int pivot = a[mid];
+         int lt = lo;
+         int gt = hi;
+         int i = lo;
+         while (i <= gt) {
+            if (a[i] < pivot) {
+               swap(a, lt, i);
+               lt++;
+               i++;
+            }
+            else if (a[i] > pivot) {
+               swap(a, i, gt);
+               gt--;
+            }
+            else {
+               i++;
+            }
+         }
+         if (rank < lt) {
+            hi = lt - 1;
+         }
+         else if (rank > gt) {
+            lo = gt + 1;
+         }
+         else {
+            return a[rank];
+         }
+      }
+      return a[rank];
+   }
+   
+   /**
+   * The swap method exchanges a[i] and a[j].
+   * @param a - the array of integers.
+   * @param i - the index of the first value.
+   * @param j - the index of the second value.
+   */
+   private static void swap(int[] a, int i, int j) {
+      int temp = a[i];
+      a[i] = a[j];
+      a[j] = temp;
+   }
+   
+   /**
+   * The compact method moves each distinct value of values[0..n) once to
+   * the front of values and returns how many there are, as the int
+   * version does.
+   * @param values - the values, overwritten by the distinct values.
+   * @param n - the number of values.
+   * @param k - the value of k.
+   * @param table - the buffer for the hash table.
+   * @return the number of distinct values.
+   */
+   private static int compact(long[] values, int n, int k, int[] table) {
+      int tableSize = tableLength(n);
+      Arrays.fill(table, 0, tableSize, 0);
+      int count = 0;
+      for (int i = 0; i < n; i++) {
+         long key = values[i];
+         int slot = slot(hash(key), tableSize);
+         while (true) {
+            int index = table[slot];
+            if (index == 0) {
+               values[count] = key;
+               count++;
+               table[slot] = count;
+               break;
+            }
+            if (values[index - 1] == key) {
+               break;
+            }
+            slot++;
+            if (slot == tableSize) {
+               slot = 0;
+            }
+         }
+      }
+      
+      if (count < k) {
+         throw new IllegalArgumentException();
+      }
+      return count;
+   }
+   
+   /**
+   * The select method returns the value that would be at index rank if
+   * a[lo..hi] were sorted, rearranging a[lo..hi] as it goes. This is an
+   * introselect: quickselect with a median-of-three pivot and a three-way
+   * partition, which sorts the remaining subrange outright if the depth
+   * exceeds 2 lg n.
+   * @param a - the array of longs.
+   * @param lo - the first index of the subrange.
+   * @param hi - the last index of the subrange.
+   * @param rank - the index of the value to select.
+   * @return the value of the given rank.
+   */
+   private static long select(long[] a, int lo, int hi, int rank) {
+      int depth = 2 * (32 - Integer.numberOfLeadingZeros(hi - lo + 1));
+      while (lo < hi) {
+         if (depth == 0) {
+            Arrays.sort(a, lo, hi + 1);
+            return a[rank];
+         }
+         depth--;
+         int mid = (lo + hi) >>> 1;
+         if (a[mid] < a[lo]) {
+            swap(a, mid, lo);
+         }
+         if (a[hi] < a[lo]) {
+            swap(a, hi, lo);
+         }
+         if (a[hi] < a[mid]) {
+            swap(a, hi, mid);
+         }
+         long pivot = a[mid];
+         int lt = lo;
+         int gt = hi;
+         int i = lo;
+         while (i <= gt) {
+            if (a[i] < pivot) {
+               swap(a, lt, i);
+               lt++;
+               i++;
+            }
+            else if (a[i] > pivot) {
+               swap(a, i, gt);
+               gt--;
+            }
+            else {
+               i++;
+            }
+         }
+         if (rank < lt) {
+            hi = lt - 1;
+         }
+         else if (rank > gt) {
+            lo = gt + 1;
+         }
+         else {
+            return a[rank];
+         }
+      }
+      return a[rank];
+   }
+   
+   /**
+   * The swap method exchanges a[i] and a[j].
+   * @param a - the array of longs.
+   * @param i - the index of the first value.
+   * @param j - the index of the second value.
+   */
+   private static void swap(long[] a, int i, int j) {
+      long temp = a[i];
+      a[i] = a[j];
+      a[j] = temp;
+   }
+   
+   /**
+   * The toKey method maps a double to a long with the same order and
+   * equality as Double.compare: the bits of a negative value are flipped
+   * below the sign, and every NaN becomes the one canonical NaN.
+   * @param value - the double to map.
+   * @return the key of the double.
+   */
+   private static long toKey(double value) {
+      long bits = Double.doubleToLongBits(value);
+      return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+   }
+   
+   /**
+   * The fromKey method returns the double that toKey maps to key.
+   * @param key - the key of a double.
+   * @return the double.
+   */
+   private static double fromKey(long key) {
+      return Double.longBitsToDouble(key ^ ((key >> 63) & Long.MAX_VALUE));
+   }
+   
+   /**
+   * The hash method mixes the bits of an int key so that nearby keys
+   * spread across the table.
+   * @param key - the key to hash.
+   * @return the mixed hash.
+   */
+   static int hash(int key) {
+      int h = key * 0x9E3779B9;
+      return h ^ (h >>> 16);
+   }
+   
+   /**
+   * The hash method mixes the bits of a long key so that nearby keys
+   * spread across the table.
+   * @param key - the key to hash.
+   * @return the mixed hash.
+   */
+   private static int hash(long key) {
+      return hash((int) (key ^ (key >>> 32)));
+   }
+   
+   /**
+   * The slot method maps a hash onto [0, tableSize) with a multiply and
+   * shift, so the table size does not have to be a power of two.
+   * @param hash - the mixed hash.
+   * @param tableSize - the number of slots in the table.
+   * @return the slot for the hash.
+   */
+   static int slot(int hash, int tableSize) {
+      return (int) (((hash & 0xFFFFFFFFL) * tableSize) >>> 32);
    }
 }
\ No newline at end of file
@@ -0,0 +1,266 @@
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+* Answers floor, ceiling, rank, and range-count queries against a static
+* array of ints in O(log n) time. The index is built once; if the array
+* is already sorted it is only copied, otherwise the copy is sorted.
+*
+* <p>Optionally the values are also laid out in Eytzinger (breadth-first)
+* order, where the children of slot k are slots 2k and 2k + 1. A search
+* then walks down the array from the front, so the first levels share a
+* few cache lines, and each step is a compare and an index update with no
+* unpredictable branch. This suits tables that take millions of lookups.
+*
+* @author   Jack Ryan Fulford (jrf0067@auburn.edu)
+* @version  10/18/26
+*
+*/
+public final class IntSortedIndex {
+
+   private final int[] sorted;
+   private final int[] tree;
+   private final int[] order;
+
+   /**
+   * Builds an index over a copy of the given array, searched by a
+   * branchless binary search over the sorted values.
+   * @param a - the array of integers.
+   */
+   public IntSortedIndex(int[] a) {
+      this(a, false);
+   }
+
+   /**
+   * Builds an index over a copy of the given array. If eytzinger is true,
+   * searches run over an Eytzinger layout of the values instead of the
+   * sorted array. This method throws an IllegalArgumentException if a is
+   * null or empty.
+   * @param a - the array of integers.
+   * @param eytzinger - whether to search an Eytzinger layout.
+   */
+   public IntSortedIndex(int[] a, boolean eytzinger) {
+      if ( (a == null) || (a.length == 0) ) {
+         throw new IllegalArgumentException();
+      }
+
+      sorted = Arrays.copyOf(a, a.length);
+      if (!isSorted(sorted)) {
+         Arrays.sort(sorted);
+      }
+
+      if (eytzinger) {
+         tree = new int[sorted.length + 1];
+         order = new int[sorted.length + 1];
+         build(0, 1);
+      }
+      else {
+         tree = null;
+         order = null;
+      }
+   }
+
+   /**
+   * The size method returns the number of values in the index.
+   * @return the number of values.
+   */
+   public int size() {
+      return sorted.length;
+   }
+
+   /**
+   * The floor method returns the largest value in the index that is less
+   * than or equal to key. This method throws an IllegalArgumentException
+   * if there is no such value, as Selector.floor does.
+   * @param key - the upper bound.
+   * @return the largest value that is less than or equal to key.
+   */
+   public int floor(int key) {
+      int upper = upperBound(key);
+      if (upper == 0) {
+         throw new IllegalArgumentException();
+      }
+      return sorted[upper - 1];
+   }
+
+   /**
+   * The ceiling method returns the smallest value in the index that is
+   * greater than or equal to key. This method throws an
+   * IllegalArgumentException if there is no such value, as
+   * Selector.ceiling does.
+   * @param key - the lower bound.
+   * @return the smallest value that is greater than or equal to key.
+   */
+   public int ceiling(int key) {
+      int lower = lowerBound(key);
+      if (lower == sorted.length) {
+         throw new IllegalArgumentException();
+      }
+      return sorted[lower];
+   }
+
+   /**
+   * The rank method returns the number of values in the index that are
+   * less than key, counting duplicates.
+   * @param key - the reference value.
+   * @return the number of values less than key.
+   */
+   public int rank(int key) {
+      return lowerBound(key);
+   }
+
+   /**
+   * The rangeCount method returns the number of values in the index that
+   * are greater than or equal to low and less than or equal to high,
+   * counting duplicates. This is the length of the array Selector.range
+   * would return.
+   * @param low - the lowerbound of the range.
+   * @param high - the upperbound of the range.
+   * @return the number of values between low and high.
+   */
+   public int rangeCount(int low, int high) {
+      if (high < low) {
+         return 0;
+      }
+      return upperBound(high) - lowerBound(low);
+   }
+
+   /**
+   * The rangeCounts method answers a batch of range-count queries. Each
+   * query is a two-element array {low, high}, and the result at index i
+   * is rangeCount(queries[i][0], queries[i][1]). Each query costs two
+   * binary searches, so q queries cost O(q log n) on top of the one-time
+   * sort. This method throws an IllegalArgumentException if queries is
+   * null or holds a query that is not a two-element array.
+   * @param queries - the {low, high} intervals.
+   * @return the number of values in each interval.
+   */
+   public int[] rangeCounts(int[][] queries) {
+      checkQueries(queries);
+      int[] counts = new int[queries.length];
+      for (int i = 0; i < queries.length; i++) {
+         counts[i] = rangeCount(queries[i][0], queries[i][1]);
+      }
+      return counts;
+   }
+
+   /**
+   * The ranges method extracts, for each {low, high} query, all values in
+   * the index between low and high, inclusive. Unlike Selector.range, the
+   * values of each result come out in ascending order, since each one is a
+   * slice of the sorted copy found by two binary searches. If parallel is
+   * true, the slices are copied on the common ForkJoinPool. This method
+   * throws an IllegalArgumentException if queries is null or holds a
+   * query that is not a two-element array.
+   * @param queries - the {low, high} intervals.
+   * @param parallel - whether to copy the slices in parallel.
+   * @return the values in each interval, in ascending order.
+   */
+   public int[][] ranges(int[][] queries, boolean parallel) {
+      checkQueries(queries);
+      int[][] result = new int[queries.length][];
+      IntStream indexes = IntStream.range(0, queries.length);
+      if (parallel) {
+         indexes = indexes.parallel();
+      }
+      indexes.forEach(i -> {
+         int low = queries[i][0];
+         int high = queries[i][1];
+         if (high < low) {
+            result[i] = new int[0];
+         }
+         else {
+            result[i] = Arrays.copyOfRange(sorted, lowerBound(low), upperBound(high));
+         }
+      });
+      return result;
+   }
+
+   /**
+   * The checkQueries method validates a batch of {low, high} queries.
+   * @param queries - the queries to check.
+   */
+   private static void checkQueries(int[][] queries) {
+      if (queries == null) {
+         throw new IllegalArgumentException();
+      }
+      for (int[] query : queries) {
+         if ( (query == null) || (query.length != 2) ) {
+            throw new IllegalArgumentException();
+         }
+      }
+   }
+
+   /**
+   * The lowerBound method returns the index in sorted order of the first
+   * value that is greater than or equal to key, or size() if none is.
+   * @param key - the reference value.
+   * @return the first sorted index whose value is at least key.
+   */
+   private int lowerBound(int key) {
+      if (tree != null) {
+         int n = sorted.length;
+         int k = 1;
+         while (k <= n) {
+            k = 2 * k + (tree[k] < key ? 1 : 0);
+         }
+         k >>>= Integer.numberOfTrailingZeros(~k) + 1;
+         return k == 0 ? n : order[k];
+      }
+
+      int base = 0;
+      int length = sorted.length;
+      while (length > 1) {
+         int half = length >>> 1;
+         base += sorted[base + half - 1] < key ? half : 0;
+         length -= half;
+      }
+      return base + (sorted[base] < key ? 1 : 0);
+   }
+
+   /**
+   * The upperBound method returns the index in sorted order of the first
+   * value that is greater than key, or size() if none is.
+   * @param key - the reference value.
+   * @return the first sorted index whose value exceeds key.
+   */
+   private int upperBound(int key) {
+      if (key == Integer.MAX_VALUE) {
+         return sorted.length;
+      }
+      return lowerBound(key + 1);
+   }
+
+   /**
+   * The build method fills the Eytzinger layout by an in-order walk of the
+   * implicit tree rooted at slot k, taking values from sorted starting at
+   * index i.
+   * @param i - the next sorted index to place.
+   * @param k - the tree slot to fill.
+   * @return the next sorted index after this subtree.
+   */
+   private int build(int i, int k) {
+      if (k <= sorted.length) {
+         i = build(i, 2 * k);
+         tree[k] = sorted[i];
+         order[k] = i;
+         i++;
+         i = build(i, 2 * k + 1);
+      }
+      return i;
+   }
+
+   /**
+   * The isSorted method checks whether an array is in ascending order.
+   * @param a - the array of integers.
+   * @return true if a is sorted.
+   */
+   private static boolean isSorted(int[] a) {
+      for (int i = 1; i < a.length; i++) {
+         if (a[i] < a[i - 1]) {
+            return false;
+         }
+      }
+      return true;
+   }
+}
@@ -0,0 +1,529 @@
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Collectors;
+
+/**
+* Defines the Selector methods min, max, kmin, kmax, range, floor, and
+* ceiling over ints that live outside the heap: either a raw file of
+* little-endian ints, which is memory-mapped, or an IntBuffer such as a
+* view of a MappedByteBuffer. Files are mapped 256 MB at a time, and the
+* data is cut into pieces of at most 2^20 ints, or fewer when that would
+* leave the common ForkJoinPool with too few tasks to balance. The pieces
+* are scanned in parallel and read in place, so only the results are
+* copied onto the heap. The methods throw the same
+* IllegalArgumentExceptions as Selector.
+*
+* <p>kmin and kmax cannot sort data that does not fit on the heap.
+* Instead they narrow by digit, as RadixSelector does. One parallel pass
+* builds a histogram of the top 16 bits of every value. The occupied
+* buckets are then taken from the low end (or high end) in windows of at
+* most 2^11, and a second pass marks which low 16 bits occur in each
+* bucket of the window with a bitmap of at most 16 MB, which counts its
+* distinct values exactly. Each occupied bucket holds at least one
+* distinct value, so two passes suffice whenever k is at most 2^11, and
+* every further 2^11 occupied buckets cost one more pass.
+*
+* @author   Jack Ryan Fulford (jrf0067@auburn.edu)
+* @version  10/18/26
+*
+*/
+public final class MappedSelector {
+
+   /** The number of bytes mapped per chunk. */
+   private static final long CHUNK_BYTES = 1L << 28;
+
+   /** The most ints in one piece of parallel work. */
+   private static final int PIECE_INTS = 1 << 20;
+
+   /** The fewest ints in one piece of parallel work. */
+   private static final int MIN_PIECE_INTS = 1 << 12;
+
+   /** The number of bits in a kmin/kmax digit. */
+   private static final int DIGIT_BITS = 16;
+
+   /** The number of buckets per kmin/kmax digit. */
+   private static final int BUCKETS = 1 << DIGIT_BITS;
+
+   /** The most occupied buckets one kmin/kmax bitmap covers. */
+   private static final int WINDOW_BUCKETS = 1 << 11;
+
+   /** The value floor and ceiling use for "no qualifying element". */
+   private static final long NONE = Long.MIN_VALUE;
+
+    /**
+     * Can't instantiate this class.
+     */
+   private MappedSelector() { }
+
+   /**
+   * The map method memory-maps a file of little-endian ints as a list of
+   * read-only IntBuffer chunks. If the file length is not a multiple of
+   * four bytes, this method throws an IllegalArgumentException.
+   * @param path - the file to map.
+   * @return the chunks of the file, in order.
+   * @throws IOException if the file cannot be read.
+   */
+   public static List<IntBuffer> map(Path path) throws IOException {
+      if (path == null) {
+         throw new IllegalArgumentException();
+      }
+      try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+         long size = channel.size();
+         if (size % Integer.BYTES != 0) {
+            throw new IllegalArgumentException();
+         }
+         List<IntBuffer> chunks = new ArrayList<>();
+         for (long offset = 0; offset < size; offset += CHUNK_BYTES) {
+            long length = Math.min(CHUNK_BYTES, size - offset);
+            chunks.add(channel.map(FileChannel.MapMode.READ_ONLY, offset, length)
+                              .order(ByteOrder.LITTLE_ENDIAN)
+                              .asIntBuffer());
+         }
+         return chunks;
+      }
+   }
+
+   /**
+   * The min method returns the minimum int in a file of little-endian ints.
+   * @param path - the file of ints.
+   * @return the minimum element of the file.
+   * @throws IOException if the file cannot be read.
+   */
+   public static int min(Path path) throws IOException {
+      return min(pieces(map(path)));
+   }
+
+   /**
+   * The min method returns the minimum element of an IntBuffer, from its
+   * position to its limit.
+   * @param buffer - the ints to select from.
+   * @return the minimum element of the buffer.
+   */
+   public static int min(IntBuffer buffer) {
+      return min(pieces(split(buffer)));
+   }
+
+   /**
+   * The max method returns the maximum int in a file of little-endian ints.
+   * @param path - the file of ints.
+   * @return the maximum element of the file.
+   * @throws IOException if the file cannot be read.
+   */
+   public static int max(Path path) throws IOException {
+      return max(pieces(map(path)));
+   }
+
+   /**
+   * The max method returns the maximum element of an IntBuffer, from its
+   * position to its limit.
+   * @param buffer - the ints to select from.
+   * @return the maximum element of the buffer.
+   */
+   public static int max(IntBuffer buffer) {
+      return max(pieces(split(buffer)));
+   }
+
+   /**
+   * The kmin method selects the k-th minimum value from a file of
+   * little-endian ints. A value is the k-th minimum if and only if there
+   * are exactly k - 1 distinct values less than it in the file.
+   * @param path - the file of ints.
+   * @param k - the value of k.
+   * @return the k-th minimum value in the file.
+   * @throws IOException if the file cannot be read.
+   */
+   public static int kmin(Path path, int k) throws IOException {
+      return kselect(pieces(map(path)), k, true);
+   }
+
+   /**
+   * The kmin method selects the k-th minimum value from an IntBuffer,
+   * from its position to its limit.
+   * @param buffer - the ints to select from.
+   * @param k - the value of k.
+   * @return the k-th minimum value in the buffer.
+   */
+   public static int kmin(IntBuffer buffer, int k) {
+      return kselect(pieces(split(buffer)), k, true);
+   }
+
+   /**
+   * The kmax method selects the k-th maximum value from a file of
+   * little-endian ints. A value is the k-th maximum if and only if there
+   * are exactly k - 1 distinct values greater than it in the file.
+   * @param path - the file of ints.
+   * @param k - the value of k.
+   * @return the k-th maximum value in the file.
+   * @throws IOException if the file cannot be read.
+   */
+   public static int kmax(Path path, int k) throws IOException {
+      return kselect(pieces(map(path)), k, false);
+   }
+
+   /**
+   * The kmax method selects the k-th maximum value from an IntBuffer,
+   * from its position to its limit.
+   * @param buffer - the ints to select from.
+   * @param k - the value of k.
+   * @return the k-th maximum value in the buffer.
+   */
+   public static int kmax(IntBuffer buffer, int k) {
+      return kselect(pieces(split(buffer)), k, false);
+   }
+
+   /**
+   * The range method selects, in order, all values in a file of
+   * little-endian ints that are greater than or equal to low and less
+   * than or equal to high.
+   * @param path - the file of ints.
+   * @param low - the lowerbound of the range.
+   * @param high - the upperbound of the range.
+   * @return an array of all the elements between low and high.
+   * @throws IOException if the file cannot be read.
+   */
+   public static int[] range(Path path, int low, int high) throws IOException {
+      return range(pieces(map(path)), low, high);
+   }
+
+   /**
+   * The range method selects, in order, all values in an IntBuffer that
+   * are greater than or equal to low and less than or equal to high.
+   * @param buffer - the ints to select from.
+   * @param low - the lowerbound of the range.
+   * @param high - the upperbound of the range.
+   * @return an array of all the elements between low and high.
+   */
+   public static int[] range(IntBuffer buffer, int low, int high) {
+      return range(pieces(split(buffer)), low, high);
+   }
+
+   /**
+   * The floor method selects from a file of little-endian ints the
+   * largest value that is less than or equal to key.
+   * @param path - the file of ints.
+   * @param key - the upper bound.
+   * @return the largest value that is less than or equal to key.
+   * @throws IOException if the file cannot be read.
+   */
+   public static int floor(Path path, int key) throws IOException {
+      return floor(pieces(map(path)), key);
+   }
+
+   /**
+   * The floor method selects from an IntBuffer the largest value that is
+   * less than or equal to key.
+   * @param buffer - the ints to select from.
+   * @param key - the upper bound.
+   * @return the largest value that is less than or equal to key.
+   */
+   public static int floor(IntBuffer buffer, int key) {
+      return floor(pieces(split(buffer)), key);
+   }
+
+   /**
+   * The ceiling method selects from a file of little-endian ints the
+   * smallest value that is greater than or equal to key.
+   * @param path - the file of ints.
+   * @param key - the lower bound.
+   * @return the smallest value that is greater than or equal to key.
+   * @throws IOException if the file cannot be read.
+   */
+   public static int ceiling(Path path, int key) throws IOException {
+      return ceiling(pieces(map(path)), key);
+   }
+
+   /**
+   * The ceiling method selects from an IntBuffer the smallest value that
+   * is greater than or equal to key.
+   * @param buffer - the ints to select from.
+   * @param key - the lower bound.
+   * @return the smallest value that is greater than or equal to key.
+   */
+   public static int ceiling(IntBuffer buffer, int key) {
+      return ceiling(pieces(split(buffer)), key);
+   }
+
+   /**
+   * The split method returns the remaining ints of a buffer as a single
+   * chunk, without copying them.
+   * @param buffer - the buffer to split.
+   * @return the chunk of the buffer.
+   */
+   private static List<IntBuffer> split(IntBuffer buffer) {
+      if (buffer == null) {
+         throw new IllegalArgumentException();
+      }
+      return List.of(buffer.slice());
+   }
+
+   /**
+   * The pieces method cuts chunks into the pieces of parallel work, about
+   * four per thread of the common ForkJoinPool but no more than PIECE_INTS
+   * and no fewer than MIN_PIECE_INTS ints each, without copying them.
+   * @param chunks - the chunks to cut.
+   * @return the pieces of the chunks, in order.
+   */
+   private static List<IntBuffer> pieces(List<IntBuffer> chunks) {
+      long tasks = 4L * ForkJoinPool.getCommonPoolParallelism();
+      long target = (length(chunks) + tasks - 1) / tasks;
+      int pieceInts = (int) Math.max(MIN_PIECE_INTS, Math.min(PIECE_INTS, target));
+      List<IntBuffer> pieces = new ArrayList<>();
+      for (IntBuffer chunk : chunks) {
+         for (int from = 0; from < chunk.limit(); from += pieceInts) {
+            pieces.add(chunk.slice(from, Math.min(pieceInts, chunk.limit() - from)));
+         }
+      }
+      return pieces;
+   }
+
+   /**
+   * The length method returns the total number of ints in the chunks.
+   * @param chunks - the chunks to measure.
+   * @return the number of ints.
+   */
+   private static long length(List<IntBuffer> chunks) {
+      long length = 0;
+      for (IntBuffer chunk : chunks) {
+         length += chunk.limit();
+      }
+      return length;
+   }
+
+   /**
+   * The min method takes the minimum of each chunk in parallel and
+   * returns the smallest of those.
+   * @param chunks - the ints to select from.
+   * @return the minimum element.
+   */
+   private static int min(List<IntBuffer> chunks) {
+      if (length(chunks) == 0) {
+         throw new IllegalArgumentException();
+      }
+      return chunks.parallelStream().filter(chunk -> chunk.limit() > 0).mapToInt(chunk -> {
+         int min = chunk.get(0);
+         for (int i = 1; i < chunk.limit(); i++) {
+            min = Math.min(min, chunk.get(i));
+         }
+         return min;
+      }).min().getAsInt();
+   }
+
+   /**
+   * The max method takes the maximum of each chunk in parallel and
+   * returns the largest of those.
+   * @param chunks - the ints to select from.
+   * @return the maximum element.
+   */
+   private static int max(List<IntBuffer> chunks) {
+      if (length(chunks) == 0) {
+         throw new IllegalArgumentException();
+      }
+      return chunks.parallelStream().filter(chunk -> chunk.limit() > 0).mapToInt(chunk -> {
+         int max = chunk.get(0);
+         for (int i = 1; i < chunk.limit(); i++) {
+            max = Math.max(max, chunk.get(i));
+         }
+         return max;
+      }).max().getAsInt();
+   }
+
+   /**
+   * The range method gathers the matches of each chunk in parallel and
+   * joins them in chunk order.
+   * @param chunks - the ints to select from.
+   * @param low - the lowerbound of the range.
+   * @param high - the upperbound of the range.
+   * @return an array of all the elements between low and high.
+   */
+   private static int[] range(List<IntBuffer> chunks, int low, int high) {
+      if (length(chunks) == 0) {
+         throw new IllegalArgumentException();
+      }
+      List<int[]> parts = chunks.parallelStream().map(chunk -> {
+         int count = 0;
+         for (int i = 0; i < chunk.limit(); i++) {
+            int element = chunk.get(i);
+            if (low <= element && element <= high) {
+               count++;
+            }
+         }
+         int[] part = new int[count];
+         count = 0;
+         for (int i = 0; i < chunk.limit(); i++) {
+            int element = chunk.get(i);
+            if (low <= element && element <= high) {
+               part[count++] = element;
+            }
+         }
+         return part;
+      }).collect(Collectors.toList());
+
+      int total = 0;
+      for (int[] part : parts) {
+         total += part.length;
+      }
+      int[] arrWithRange = new int[total];
+      int counter = 0;
+      for (int[] part : parts) {
+         System.arraycopy(part, 0, arrWithRange, counter, part.length);
+         counter += part.length;
+      }
+      return arrWithRange;
+   }
+
+   /**
+   * The floor method takes the floor of each chunk in parallel and
+   * returns the largest of those.
+   * @param chunks - the ints to select from.
+   * @param key - the upper bound.
+   * @return the largest value that is less than or equal to key.
+   */
+   private static int floor(List<IntBuffer> chunks, int key) {
+      if (length(chunks) == 0) {
+         throw new IllegalArgumentException();
+      }
+      long floor = chunks.parallelStream().mapToLong(chunk -> {
+         long best = NONE;
+         for (int i = 0; i < chunk.limit(); i++) {
+            int element = chunk.get(i);
+            if (element <= key && best < element) {
+               best = element;
+            }
+         }
+         return best;
+      }).max().getAsLong();
+      if (floor == NONE) {
+         throw new IllegalArgumentException();
+      }
+      return (int) floor;
+   }
+
+   /**
+   * The ceiling method takes the ceiling of each chunk in parallel and
+   * returns the smallest of those.
+   * @param chunks - the ints to select from.
+   * @param key - the lower bound.
+   * @return the smallest value that is greater than or equal to key.
+   */
+   private static int ceiling(List<IntBuffer> chunks, int key) {
+      if (length(chunks) == 0) {
+         throw new IllegalArgumentException();
+      }
+      long ceiling = chunks.parallelStream().mapToLong(chunk -> {
+         long best = Long.MAX_VALUE;
+         for (int i = 0; i < chunk.limit(); i++) {
+            int element = chunk.get(i);
+            if (key <= element && element < best) {
+               best = element;
+            }
+         }
+         return best;
+      }).min().getAsLong();
+      if (ceiling == Long.MAX_VALUE) {
+         throw new IllegalArgumentException();
+      }
+      return (int) ceiling;
+   }
+
+   /**
+   * The kselect method finds the k-th minimum (or maximum) distinct value
+   * from a histogram of the top digit, then counts the distinct values of
+   * one window of occupied buckets at a time with a presence bitmap,
+   * starting from the minimum (or maximum) and moving inward. Values are
+   * keyed with their sign bit flipped so that unsigned digit order matches
+   * signed int order.
+   * @param chunks - the ints to select from.
+   * @param k - the value of k.
+   * @param fromLow - true for the k-th minimum, false for the k-th maximum.
+   * @return the selected value.
+   */
+   private static int kselect(List<IntBuffer> chunks, int k, boolean fromLow) {
+      long length = length(chunks);
+      if ( (length == 0) || (k < 1) || (length < k) ) {
+         throw new IllegalArgumentException();
+      }
+
+      long[] count = chunks.parallelStream().collect(() -> new long[BUCKETS],
+         (counts, chunk) -> {
+            for (int i = 0; i < chunk.limit(); i++) {
+               counts[(chunk.get(i) ^ Integer.MIN_VALUE) >>> DIGIT_BITS]++;
+            }
+         },
+         (x, y) -> {
+            for (int b = 0; b < BUCKETS; b++) {
+               x[b] += y[b];
+            }
+         });
+
+      int[] slot = new int[BUCKETS];
+      int[] window = new int[WINDOW_BUCKETS];
+      int wordsPerBucket = BUCKETS / Long.SIZE;
+      long remaining = k;
+      int next = 0;
+      while (next < BUCKETS) {
+         Arrays.fill(slot, -1);
+         int slots = 0;
+         while ( (next < BUCKETS) && (slots < WINDOW_BUCKETS) && (slots < remaining) ) {
+            int b = fromLow ? next : BUCKETS - 1 - next;
+            if (count[b] > 0) {
+               slot[b] = slots;
+               window[slots++] = b;
+            }
+            next++;
+         }
+         if (slots == 0) {
+            break;
+         }
+
+         AtomicLongArray bits = new AtomicLongArray(slots * wordsPerBucket);
+         chunks.parallelStream().forEach(chunk -> {
+            for (int i = 0; i < chunk.limit(); i++) {
+               int key = chunk.get(i) ^ Integer.MIN_VALUE;
+               int s = slot[key >>> DIGIT_BITS];
+               if (s >= 0) {
+                  int low = key & (BUCKETS - 1);
+                  int word = s * wordsPerBucket + (low >>> 6);
+                  long bit = 1L << low;
+                  if ((bits.get(word) & bit) == 0) {
+                     bits.getAndAccumulate(word, bit, (x, y) -> x | y);
+                  }
+               }
+            }
+         });
+
+         for (int s = 0; s < slots; s++) {
+            int first = s * wordsPerBucket;
+            int present = 0;
+            for (int w = first; w < first + wordsPerBucket; w++) {
+               present += Long.bitCount(bits.get(w));
+            }
+            if (remaining <= present) {
+               long target = fromLow ? remaining : present - remaining + 1;
+               for (int w = first; ; w++) {
+                  long word = bits.get(w);
+                  int bitCount = Long.bitCount(word);
+                  if (target <= bitCount) {
+                     for (int j = 1; j < target; j++) {
+                        word &= word - 1;
+                     }
+                     int low = 64 * (w - first) + Long.numberOfTrailingZeros(word);
+                     return ((window[s] << DIGIT_BITS) | low) ^ Integer.MIN_VALUE;
+                  }
+                  target -= bitCount;
+               }
+            }
+            remaining -= present;
+         }
+      }
+      throw new IllegalArgumentException();
+   }
+}
@@ -0,0 +1,310 @@
+import java.util.Arrays;
+import java.util.IntSummaryStatistics;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+* Defines parallel versions of the Selector methods kmin and kmax for very
+* large arrays of ints, based on an MSD radix histogram rather than
+* comparisons. Each pass over a run of values works as follows:
+*
+* <ol>
+* <li>the digit is the 8 bits starting at the highest bit in which the
+* smallest and largest values of the whole array differ, so that the
+* values spread over the buckets instead of sharing one top byte;</li>
+* <li>each thread builds a 256-bucket histogram of that digit over its
+* slice of the run, and the values are scattered, in parallel, so that
+* each bucket is contiguous;</li>
+* <li>the buckets are walked from the low end for kmin or the high end for
+* kmax. Values in different buckets differ in that digit, so each bucket
+* can be deduplicated on its own, and its distinct count is subtracted
+* from k until the bucket holding the k-th distinct value is reached.
+* Only the buckets the walk reaches are deduplicated, a batch at a time
+* in parallel, and a bucket of PARALLEL_THRESHOLD or more values is
+* instead split by the next 8 bits with another parallel pass.</li>
+* </ol>
+*
+* The bucket holding the k-th distinct value is then refined by its lower
+* bits. As in Selector, a value is the k-th minimum if and only if there
+* are exactly k - 1 distinct values less than it. The passes alternate
+* between two scratch arrays the length of the input, which is itself left
+* unchanged. Arrays smaller than PARALLEL_THRESHOLD are handed to Selector
+* directly.
+*
+* @author   Jack Ryan Fulford (jrf0067@auburn.edu)
+* @version  10/18/26
+*
+*/
+public final class RadixSelector {
+
+   /**
+    * The smallest array length at which the parallel radix path is used,
+    * and the smallest bucket that is split by a further parallel pass.
+    */
+   public static final int PARALLEL_THRESHOLD = 1 << 16;
+
+   /** The number of buckets per radix digit. */
+   private static final int RADIX = 256;
+
+    /**
+     * Can't instantiate this class.
+     */
+   private RadixSelector() { }
+
+   /**
+   * The kmin method selects the k-th minimum value from a given array.
+   * A value is the k-th minimum if and only if there are exactly k - 1
+   * distinct values less than it in the array.
+   * @param a - the array of integers.
+   * @param k - the value of k.
+   * @return the k-th minimum value of the array a.
+   */
+   public static int kmin(int[] a, int k) {
+      if ( (a == null) || (a.length < PARALLEL_THRESHOLD) ) {
+         return Selector.kmin(a, k);
+      }
+      return select(a, k, true);
+   }
+
+   /**
+   * The kmax method selects the k-th maximum value from a given array.
+   * A value is the k-th maximum if and only if there are exactly k - 1
+   * distinct values greater than it in the array.
+   * @param a - the array of integers.
+   * @param k - the value of k.
+   * @return the k-th maximum value of the array a.
+   */
+   public static int kmax(int[] a, int k) {
+      if ( (a == null) || (a.length < PARALLEL_THRESHOLD) ) {
+         return Selector.kmax(a, k);
+      }
+      return select(a, k, false);
+   }
+
+   /**
+   * The select method finds the first digit from the range of a and runs
+   * the radix passes over the whole array.
+   * @param a - the array of integers.
+   * @param k - the value of k.
+   * @param fromLow - true for the k-th minimum, false for the k-th maximum.
+   * @return the selected value.
+   */
+   private static int select(int[] a, int k, boolean fromLow) {
+      if ( (k < 1) || (a.length < k) ) {
+         throw new IllegalArgumentException();
+      }
+
+      IntSummaryStatistics stats = IntStream.of(a).parallel().summaryStatistics();
+      int highBit = 31 - Integer.numberOfLeadingZeros(stats.getMin() ^ stats.getMax());
+      int shift = Math.max(0, highBit - 7);
+
+      long result = select(a, new int[a.length], new int[a.length],
+                           0, a.length, k, fromLow, shift);
+      if (result < 0) {
+         throw new IllegalArgumentException();
+      }
+      return (int) result;
+   }
+
+   /**
+   * The select method runs one radix pass over src[from..to), which must
+   * hold at least PARALLEL_THRESHOLD values that agree above the digit at
+   * shift. The values are scattered by that digit into dst[from..to), and
+   * the buckets are walked until the k-th distinct value is found. The
+   * range [from, to) of spare is free for a further pass to scatter into.
+   * @param src - the array holding the values of this pass.
+   * @param dst - the array the values are scattered into.
+   * @param spare - the array a further pass may scatter into.
+   * @param from - the first index of the values.
+   * @param to - one past the last index of the values.
+   * @param k - the rank of the value to find among the distinct values.
+   * @param fromLow - true for the k-th minimum, false for the k-th maximum.
+   * @param shift - the bit offset of the digit.
+   * @return the selected value as an unsigned int if it is in the range,
+   *     otherwise minus the number of distinct values in the range.
+   */
+   private static long select(int[] src, int[] dst, int[] spare, int from, int to,
+                              int k, boolean fromLow, int shift) {
+      int n = to - from;
+      int slices = Math.min(ForkJoinPool.getCommonPoolParallelism() * 4, n / RADIX);
+      int sliceLength = (n + slices - 1) / slices;
+      int[][] counts = new int[slices][];
+      IntStream.range(0, slices).parallel().forEach(s -> {
+         int[] count = new int[RADIX];
+         int end = Math.min(to, from + (s + 1) * sliceLength);
+         for (int i = from + s * sliceLength; i < end; i++) {
+            count[digit(src[i], shift)]++;
+         }
+         counts[s] = count;
+      });
+
+      int[] bucketStart = new int[RADIX + 1];
+      int next = from;
+      for (int b = 0; b < RADIX; b++) {
+         bucketStart[b] = next;
+         for (int s = 0; s < slices; s++) {
+            int count = counts[s][b];
+            counts[s][b] = next;
+            next += count;
+         }
+      }
+      bucketStart[RADIX] = to;
+
+      IntStream.range(0, slices).parallel().forEach(s -> {
+         int[] offset = counts[s];
+         int end = Math.min(to, from + (s + 1) * sliceLength);
+         for (int i = from + s * sliceLength; i < end; i++) {
+            dst[offset[digit(src[i], shift)]++] = src[i];
+         }
+      });
+
+      int[] distinct = new int[RADIX];
+      int remaining = k;
+      int i = 0;
+      while (i < RADIX) {
+         int b = fromLow ? i : RADIX - 1 - i;
+         int size = bucketStart[b + 1] - bucketStart[b];
+         if (size == 0) {
+            i++;
+            continue;
+         }
+         if ( (size >= PARALLEL_THRESHOLD) && (shift > 0) ) {
+            long found = select(dst, spare, dst, bucketStart[b], bucketStart[b + 1],
+                                remaining, fromLow, Math.max(0, shift - 8));
+            if (found >= 0) {
+               return found;
+            }
+            remaining += (int) found;
+            i++;
+            continue;
+         }
+
+         // Batch the small buckets the walk may still reach: each holds at
+         // least one distinct value, so at most remaining of them.
+         int end = i;
+         int buckets = 0;
+         long batch = 0;
+         while ( (end < RADIX) && (buckets < remaining) && (batch < PARALLEL_THRESHOLD) ) {
+            int c = fromLow ? end : RADIX - 1 - end;
+            int length = bucketStart[c + 1] - bucketStart[c];
+            if ( (length >= PARALLEL_THRESHOLD) && (shift > 0) ) {
+               break;
+            }
+            if (length > 0) {
+               buckets++;
+               batch += length;
+            }
+            end++;
+         }
+         IntStream batchRange = IntStream.range(i, end);
+         if (batch >= PARALLEL_THRESHOLD) {
+            batchRange = batchRange.parallel();
+         }
+         batchRange.forEach(j -> {
+            int c = fromLow ? j : RADIX - 1 - j;
+            distinct[c] = (shift == 0)
+               ? Math.min(1, bucketStart[c + 1] - bucketStart[c])
+               : dedupe(dst, bucketStart[c], bucketStart[c + 1]);
+         });
+
+         for (; i < end; i++) {
+            int c = fromLow ? i : RADIX - 1 - i;
+            if (remaining <= distinct[c]) {
+               return refine(dst, bucketStart[c], distinct[c], remaining, fromLow, shift)
+                  & 0xFFFFFFFFL;
+            }
+            remaining -= distinct[c];
+         }
+      }
+      return -(long) (k - remaining);
+   }
+
+   /**
+   * The refine method selects the k-th minimum (or maximum) of the distinct
+   * values in values[from..from+length), which agree in the digit at shift
+   * and above, narrowing by the next lower 8 bits at a time. Since the
+   * values are distinct, each histogram count is a count of distinct values.
+   * @param values - the array holding the distinct values.
+   * @param from - the first index of the values.
+   * @param length - the number of values.
+   * @param k - the rank within the values.
+   * @param fromLow - true for the k-th minimum, false for the k-th maximum.
+   * @param shift - the bit offset of the digit the values agree in.
+   * @return the selected value.
+   */
+   private static int refine(int[] values, int from, int length, int k,
+                             boolean fromLow, int shift) {
+      int[] count = new int[RADIX];
+      while (length > 1) {
+         shift = Math.max(0, shift - 8);
+         Arrays.fill(count, 0);
+         for (int i = from; i < from + length; i++) {
+            count[digit(values[i], shift)]++;
+         }
+         int bucket = 0;
+         for (int i = 0; i < RADIX; i++) {
+            bucket = fromLow ? i : RADIX - 1 - i;
+            if (k <= count[bucket]) {
+               break;
+            }
+            k -= count[bucket];
+         }
+         int kept = 0;
+         for (int i = from; i < from + length; i++) {
+            if (digit(values[i], shift) == bucket) {
+               values[from + kept++] = values[i];
+            }
+         }
+         length = kept;
+      }
+      return values[from];
+   }
+
+   /**
+   * The dedupe method removes duplicate values from a[from..to), moving
+   * the distinct values to the front of that range.
+   * @param a - the array of integers.
+   * @param from - the first index of the range.
+   * @param to - one past the last index of the range.
+   * @return the number of distinct values in the range.
+   */
+   private static int dedupe(int[] a, int from, int to) {
+      int tableSize = 2 * (to - from);
+      if (tableSize == 0) {
+         return 0;
+      }
+      int[] table = new int[tableSize];
+      int count = 0;
+      for (int i = from; i < to; i++) {
+         int element = a[i];
+         int slot = Selector.slot(Selector.hash(element), tableSize);
+         while (true) {
+            int index = table[slot];
+            if (index == 0) {
+               a[from + count] = element;
+               count++;
+               table[slot] = count;
+               break;
+            }
+            if (a[from + index - 1] == element) {
+               break;
+            }
+            slot++;
+            if (slot == tableSize) {
+               slot = 0;
+            }
+         }
+      }
+      return count;
+   }
+
+   /**
+   * The digit method returns 8 bits of an int's sign-flipped key.
+   * @param value - the value.
+   * @param shift - the bit offset of the digit.
+   * @return the digit, between 0 and 255.
+   */
+   private static int digit(int value, int shift) {
+      return ((value ^ Integer.MIN_VALUE) >>> shift) & 0xFF;
+   }
+}
@@ -0,0 +1,57 @@
+import java.nio.IntBuffer;
+import java.util.Random;
+
+/**
+* Checks that the Selector methods meant to run without allocating do in
+* fact allocate nothing: floor, ceiling, and the range overloads that
+* write into a caller's int[] or IntBuffer. Each method is measured with
+* AllocationMeter. Run it with
+* <pre>
+* java SelectorAllocationCheck
+* </pre>
+* It prints the bytes allocated per method and exits with status 1 if any
+* method allocated at all, so it can guard against regressions without a
+* benchmark harness.
+*
+* @author   Jack Ryan Fulford (jrf0067@auburn.edu)
+* @version  10/18/26
+*
+*/
+final class SelectorAllocationCheck {
+
+   private static final int LENGTH = 1 << 12;
+
+   private SelectorAllocationCheck() { }
+
+   /**
+   * The main method runs the check.
+   * @param args - ignored.
+   */
+   public static void main(String[] args) {
+      if (!AllocationMeter.supported()) {
+         return;
+      }
+
+      Random random = new Random(13);
+      int[] a = new int[LENGTH];
+      for (int i = 0; i < a.length; i++) {
+         a[i] = random.nextInt(1_000_000);
+      }
+      int[] out = new int[a.length];
+      IntBuffer buffer = IntBuffer.allocate(a.length);
+
+      boolean failed = false;
+      failed |= AllocationMeter.check("floor", () -> Selector.floor(a, 500_000), 0);
+      failed |= AllocationMeter.check("ceiling", () -> Selector.ceiling(a, 500_000), 0);
+      failed |= AllocationMeter.check("range(int[])",
+         () -> Selector.range(a, 250_000, 750_000, out), 0);
+      failed |= AllocationMeter.check("range(IntBuffer)", () -> {
+         buffer.clear();
+         return Selector.range(a, 250_000, 750_000, buffer);
+      }, 0);
+
+      if (failed) {
+         System.exit(1);
+      }
+   }
+}
@@ -0,0 +1,230 @@
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+* Defines SIMD versions of the Selector methods min, max, range, floor,
+* and ceiling on arrays of ints. When the jdk.incubator.vector module is
+* present (run with --add-modules jdk.incubator.vector) and the kernels
+* in vector/IntVectorKernels.java have been compiled onto the class path,
+* each method runs a vector kernel that handles a full register of ints
+* per step; otherwise it falls back to the scalar Selector method. Either
+* way the results and exceptions are the same as Selector's.
+*
+* <p>The kernels are looked up by name through method handles, so this
+* class compiles and runs without the incubator module.
+*
+* @author   Jack Ryan Fulford (jrf0067@auburn.edu)
+* @version  10/18/26
+*
+*/
+public final class VectorSelector {
+
+   /** The value the floor and ceiling kernels return for no match. */
+   private static final long NONE = Long.MIN_VALUE;
+
+   private static final Class<?> KERNELS = kernels();
+   private static final MethodHandle MIN =
+      kernel("min", int.class, int[].class);
+   private static final MethodHandle MAX =
+      kernel("max", int.class, int[].class);
+   private static final MethodHandle RANGE_COUNT =
+      kernel("rangeCount", int.class, int[].class, int.class, int.class);
+   private static final MethodHandle RANGE =
+      kernel("range", void.class, int[].class, int.class, int.class, int[].class);
+   private static final MethodHandle FLOOR =
+      kernel("floor", long.class, int[].class, int.class);
+   private static final MethodHandle CEILING =
+      kernel("ceiling", long.class, int[].class, int.class);
+
+   /**
+    * Whether the vector kernels are available at runtime: the
+    * jdk.incubator.vector module is present and IntVectorKernels was found.
+    */
+   public static final boolean VECTOR_AVAILABLE =
+      (MIN != null) && (MAX != null) && (RANGE_COUNT != null)
+      && (RANGE != null) && (FLOOR != null) && (CEILING != null);
+
+    /**
+     * Can't instantiate this class.
+     */
+   private VectorSelector() { }
+
+   /**
+   * The min method returns the minimum element found in an array
+   * of ints.
+   * @param a - an array of integers.
+   * @return the minimum element of the array.
+   */
+   public static int min(int[] a) {
+      if (!VECTOR_AVAILABLE) {
+         return Selector.min(a);
+      }
+      if (a == null || a.length == 0) {
+         throw new IllegalArgumentException();
+      }
+      try {
+         return (int) MIN.invokeExact(a);
+      }
+      catch (Throwable e) {
+         throw rethrow(e);
+      }
+   }
+
+   /**
+   * The max method returns the maximum element found in an array
+   * of ints.
+   * @param a - an array of integers.
+   * @return the maximum element of the array.
+   */
+   public static int max(int[] a) {
+      if (!VECTOR_AVAILABLE) {
+         return Selector.max(a);
+      }
+      if (a == null || a.length == 0) {
+         throw new IllegalArgumentException();
+      }
+      try {
+         return (int) MAX.invokeExact(a);
+      }
+      catch (Throwable e) {
+         throw rethrow(e);
+      }
+   }
+
+   /**
+   * The range method selects all values from a given array that
+   * are greater than or equal to low and less than or equal to high,
+   * in their original order. Matches are counted with vector compares,
+   * then compacted into an array of exactly that size.
+   *
+   * @param a - the array of integers.
+   * @param low - the lowerbound of the range.
+   * @param high - the upperbound of the range.
+   * @return an array of all the elements of a between low and high.
+   */
+   public static int[] range(int[] a, int low, int high) {
+      if (!VECTOR_AVAILABLE) {
+         return Selector.range(a, low, high);
+      }
+      if ( (a == null) || (a.length == 0) ) {
+         throw new IllegalArgumentException();
+      }
+      try {
+         int[] arrWithRange = new int[(int) RANGE_COUNT.invokeExact(a, low, high)];
+         RANGE.invokeExact(a, low, high, arrWithRange);
+         return arrWithRange;
+      }
+      catch (Throwable e) {
+         throw rethrow(e);
+      }
+   }
+
+   /**
+   * The ceiling method selects from a given array the smallest value that
+   * is greater than or equal to key.
+   * @param a - the array of integers.
+   * @param key - the lower bound.
+   * @return the smallest value that is greater than or equal to key.
+   */
+   public static int ceiling(int[] a, int key) {
+      if (!VECTOR_AVAILABLE) {
+         return Selector.ceiling(a, key);
+      }
+      if ( (a == null) || (a.length == 0) ) {
+         throw new IllegalArgumentException();
+      }
+      long ceiling;
+      try {
+         ceiling = (long) CEILING.invokeExact(a, key);
+      }
+      catch (Throwable e) {
+         throw rethrow(e);
+      }
+      if (ceiling == NONE) {
+         throw new IllegalArgumentException();
+      }
+      return (int) ceiling;
+   }
+
+   /**
+   * The floor method selects from a given array the largest value
+   * that is less than or equal to key.
+   * @param a - the array of integers.
+   * @param key - the upper bound.
+   * @return the largest value that is less than or equal to key.
+   */
+   public static int floor(int[] a, int key) {
+      if (!VECTOR_AVAILABLE) {
+         return Selector.floor(a, key);
+      }
+      if ( (a == null) || (a.length == 0) ) {
+         throw new IllegalArgumentException();
+      }
+      long floor;
+      try {
+         floor = (long) FLOOR.invokeExact(a, key);
+      }
+      catch (Throwable e) {
+         throw rethrow(e);
+      }
+      if (floor == NONE) {
+         throw new IllegalArgumentException();
+      }
+      return (int) floor;
+   }
+
+   /**
+   * The kernels method loads IntVectorKernels if the incubator module is
+   * present and the class has been compiled onto the class path.
+   * @return the kernel class, or null if it is unavailable.
+   */
+   private static Class<?> kernels() {
+      if (!ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+         return null;
+      }
+      try {
+         return Class.forName("IntVectorKernels");
+      }
+      catch (ClassNotFoundException | LinkageError e) {
+         return null;
+      }
+   }
+
+   /**
+   * The kernel method looks up one static method of IntVectorKernels.
+   * @param name - the name of the kernel.
+   * @param returnType - the return type of the kernel.
+   * @param parameterTypes - the parameter types of the kernel.
+   * @return a handle to the kernel, or null if it is unavailable.
+   */
+   private static MethodHandle kernel(String name, Class<?> returnType,
+                                      Class<?>... parameterTypes) {
+      if (KERNELS == null) {
+         return null;
+      }
+      try {
+         return MethodHandles.lookup().findStatic(KERNELS, name,
+            MethodType.methodType(returnType, parameterTypes));
+      }
+      catch (ReflectiveOperationException e) {
+         return null;
+      }
+   }
+
+   /**
+   * The rethrow method passes on an unchecked exception thrown by a kernel.
+   * The kernels throw no checked exceptions, so anything else is wrapped.
+   * @param e - the exception thrown through a method handle.
+   * @return never; the exception is always thrown.
+   */
+   private static RuntimeException rethrow(Throwable e) {
+      if (e instanceof RuntimeException) {
+         throw (RuntimeException) e;
+      }
+      if (e instanceof Error) {
+         throw (Error) e;
+      }
+      throw new IllegalStateException(e);
+   }
+}
@@ -0,0 +1,208 @@
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+* Defines the SIMD kernels behind VectorSelector, written against the
+* jdk.incubator.vector API. Each kernel processes one full vector of
+* ints per step at the platform's preferred width and finishes the tail
+* with a scalar loop. Arguments are assumed to have been validated by the
+* caller.
+*
+* <p>This file is compiled apart from the rest of the directory, since
+* only it needs the incubator module:
+* <pre>
+* javac --add-modules jdk.incubator.vector -d out vector/IntVectorKernels.java
+* </pre>
+* VectorSelector finds these kernels by name at runtime, so the other
+* sources build with a plain javac and run without them.
+*
+* @author   Jack Ryan Fulford (jrf0067@auburn.edu)
+* @version  10/18/26
+*
+*/
+final class IntVectorKernels {
+
+   /** The value floor and ceiling return when no element qualifies. */
+   static final long NONE = Long.MIN_VALUE;
+
+   private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+   private IntVectorKernels() { }
+
+   /**
+   * The min method returns the minimum element of a non-empty array.
+   * @param a - an array of integers.
+   * @return the minimum element of the array.
+   */
+   static int min(int[] a) {
+      IntVector acc = IntVector.broadcast(SPECIES, Integer.MAX_VALUE);
+      int bound = SPECIES.loopBound(a.length);
+      int i = 0;
+      for (; i < bound; i += SPECIES.length()) {
+         acc = acc.min(IntVector.fromArray(SPECIES, a, i));
+      }
+      int min = acc.reduceLanes(VectorOperators.MIN);
+      for (; i < a.length; i++) {
+         min = Math.min(min, a[i]);
+      }
+      return min;
+   }
+
+   /**
+   * The max method returns the maximum element of a non-empty array.
+   * @param a - an array of integers.
+   * @return the maximum element of the array.
+   */
+   static int max(int[] a) {
+      IntVector acc = IntVector.broadcast(SPECIES, Integer.MIN_VALUE);
+      int bound = SPECIES.loopBound(a.length);
+      int i = 0;
+      for (; i < bound; i += SPECIES.length()) {
+         acc = acc.max(IntVector.fromArray(SPECIES, a, i));
+      }
+      int max = acc.reduceLanes(VectorOperators.MAX);
+      for (; i < a.length; i++) {
+         max = Math.max(max, a[i]);
+      }
+      return max;
+   }
+
+   /**
+   * The rangeCount method counts the elements of a that are greater than
+   * or equal to low and less than or equal to high.
+   * @param a - an array of integers.
+   * @param low - the lowerbound of the range.
+   * @param high - the upperbound of the range.
+   * @return the number of elements between low and high.
+   */
+   static int rangeCount(int[] a, int low, int high) {
+      int bound = SPECIES.loopBound(a.length);
+      int count = 0;
+      int i = 0;
+      for (; i < bound; i += SPECIES.length()) {
+         IntVector v = IntVector.fromArray(SPECIES, a, i);
+         count += inRange(v, low, high).trueCount();
+      }
+      for (; i < a.length; i++) {
+         if (low <= a[i] && a[i] <= high) {
+            count++;
+         }
+      }
+      return count;
+   }
+
+   /**
+   * The range method copies, in order, the elements of a that are greater
+   * than or equal to low and less than or equal to high into out, which
+   * must have room for all of them. Vectors whose lanes all match are
+   * stored whole; partly matching vectors are compacted lane by lane.
+   * @param a - an array of integers.
+   * @param low - the lowerbound of the range.
+   * @param high - the upperbound of the range.
+   * @param out - the array that receives the matching elements.
+   */
+   static void range(int[] a, int low, int high, int[] out) {
+      int bound = SPECIES.loopBound(a.length);
+      int lanes = SPECIES.length();
+      int count = 0;
+      int i = 0;
+      for (; i < bound; i += lanes) {
+         IntVector v = IntVector.fromArray(SPECIES, a, i);
+         VectorMask<Integer> m = inRange(v, low, high);
+         if (m.allTrue()) {
+            v.intoArray(out, count);
+            count += lanes;
+         }
+         else if (m.anyTrue()) {
+            for (int lane = 0; lane < lanes; lane++) {
+               if (m.laneIsSet(lane)) {
+                  out[count++] = a[i + lane];
+               }
+            }
+         }
+      }
+      for (; i < a.length; i++) {
+         if (low <= a[i] && a[i] <= high) {
+            out[count++] = a[i];
+         }
+      }
+   }
+
+   /**
+   * The floor method finds the largest element of a that is less than or
+   * equal to key. Lanes above key are replaced with Integer.MIN_VALUE
+   * before the max reduction, and a separate flag records whether any
+   * lane qualified at all.
+   * @param a - an array of integers.
+   * @param key - the upper bound.
+   * @return the largest element less than or equal to key, or NONE if
+   *        no element qualifies.
+   */
+   static long floor(int[] a, int key) {
+      IntVector min = IntVector.broadcast(SPECIES, Integer.MIN_VALUE);
+      IntVector acc = min;
+      boolean any = false;
+      int bound = SPECIES.loopBound(a.length);
+      int i = 0;
+      for (; i < bound; i += SPECIES.length()) {
+         IntVector v = IntVector.fromArray(SPECIES, a, i);
+         VectorMask<Integer> m = v.compare(VectorOperators.LE, key);
+         any |= m.anyTrue();
+         acc = acc.max(min.blend(v, m));
+      }
+      int floor = acc.reduceLanes(VectorOperators.MAX);
+      for (; i < a.length; i++) {
+         if (a[i] <= key) {
+            any = true;
+            floor = Math.max(floor, a[i]);
+         }
+      }
+      return any ? floor : NONE;
+   }
+
+   /**
+   * The ceiling method finds the smallest element of a that is greater
+   * than or equal to key. Lanes below key are replaced with
+   * Integer.MAX_VALUE before the min reduction, and a separate flag
+   * records whether any lane qualified at all.
+   * @param a - an array of integers.
+   * @param key - the lower bound.
+   * @return the smallest element greater than or equal to key, or NONE
+   *        if no element qualifies.
+   */
+   static long ceiling(int[] a, int key) {
+      IntVector max = IntVector.broadcast(SPECIES, Integer.MAX_VALUE);
+      IntVector acc = max;
+      boolean any = false;
+      int bound = SPECIES.loopBound(a.length);
+      int i = 0;
+      for (; i < bound; i += SPECIES.length()) {
+         IntVector v = IntVector.fromArray(SPECIES, a, i);
+         VectorMask<Integer> m = v.compare(VectorOperators.GE, key);
+         any |= m.anyTrue();
+         acc = acc.min(max.blend(v, m));
+      }
+      int ceiling = acc.reduceLanes(VectorOperators.MIN);
+      for (; i < a.length; i++) {
+         if (key <= a[i]) {
+            any = true;
+            ceiling = Math.min(ceiling, a[i]);
+         }
+      }
+      return any ? ceiling : NONE;
+   }
+
+   /**
+   * The inRange method returns the mask of lanes of v that are between
+   * low and high, inclusive.
+   * @param v - the vector to test.
+   * @param low - the lowerbound of the range.
+   * @param high - the upperbound of the range.
+   * @return the mask of matching lanes.
+   */
+   private static VectorMask<Integer> inRange(IntVector v, int low, int high) {
+      return v.compare(VectorOperators.GE, low).and(v.compare(VectorOperators.LE, high));
+   }
+}
@@ -1,6 +1,12 @@
 import java.util.Arrays;
+import java.util.PriorityQueue;
 public class Autocomplete {
+   /** Match ranges no longer than this are scanned rather than queried. */
+   private static final int SCAN_LIMIT = 256;
+
    private Term[] elements;
+   private long[] weights;
+   private volatile int[] maxTree;
    
 	/** Constructor.
 	 * Initializes a data structure from the given array of terms.
@@ -16,7 +22,8 @@ public class Autocomplete {
 
 	/**
 	 * Returns all terms that start with the given prefix, in descending order of weight. 
-	 * This method throws a NullPointerException if prefix is null.
+	 * This method throws a NullPointerException if prefix is null,
+	 * and an IllegalArgumentException if prefix is empty.
     *
     * @param prefix - the prefix to search the field elements for.
     * @return matches - an array of matching Term objects.
@@ -37,5 +44,154 @@ public class Autocomplete {
       }
       Arrays.sort(matches, Term.byDescendingWeightOrder());
       return matches;
+   }
+
+	/**
+	 * Returns the k terms of greatest weight that start with the given prefix,
+	 * in descending order of weight, as the first k terms of allMatches would
+	 * be. Fewer than k terms are returned if fewer match. A short range of
+	 * m matches is scanned keeping only a heap of k terms, in O(m log k).
+	 * A longer range is answered from a segment tree of range maxima over
+	 * the weights, in O(k log n) however many terms match; the tree is
+	 * built on the first such query and takes 2n ints beside n weights.
+	 * This method throws a NullPointerException if prefix is null,
+	 * and an IllegalArgumentException if prefix is empty or k is negative.
+    *
+    * @param prefix - the prefix to search the field elements for.
+    * @param k - the number of terms to return.
+    * @return matches - an array of at most k matching Term objects.
+	 */
+	public Term[] topMatches(String prefix, int k) {
+      if (prefix == null) throw new NullPointerException();
+      if (k < 0) throw new IllegalArgumentException();
+      Term prefixTerm = new Term(prefix, 0);
+      int lengthOfPrefix = prefix.length();
+      int firstMatch = BinarySearch.<Term>firstIndexOf(this.elements, prefixTerm,
+                       Term.byPrefixOrder(lengthOfPrefix));
+      if (firstMatch < 0 || k == 0) return new Term[0];
+
+      int lastMatch = BinarySearch.<Term>lastIndexOf(this.elements, prefixTerm,
+                       Term.byPrefixOrder(lengthOfPrefix));
+      if (lastMatch - firstMatch + 1 > SCAN_LIMIT) {
+         return topMatches(firstMatch, lastMatch, k);
+      }
+
+      // The head of the heap is the weakest match kept: the lightest, and
+      // of equal weights the one that comes last in elements.
+      PriorityQueue<Integer> heap = new PriorityQueue<>(Math.min(k, lastMatch - firstMatch + 1),
+                 (i, j) -> elements[i].weight() != elements[j].weight()
+                    ? Long.compare(elements[i].weight(), elements[j].weight())
+                    : Integer.compare(j, i));
+      for (int i = firstMatch; i < lastMatch + 1; i++) {
+         if (heap.size() < k) {
+            heap.add(i);
+         } else if (elements[i].weight() > elements[heap.peek()].weight()) {
+            heap.poll();
+            heap.add(i);
+         }
+      }
+
+      Term[] matches = new Term[heap.size()];
+      for (int i = matches.length - 1; i >= 0; i--) {
+         matches[i] = elements[heap.poll()];
+      }
+      return matches;
+   }
+
+	/**
+	 * Returns the k terms of greatest weight among elements[first..last] by
+	 * repeated range-maximum queries. The heaviest term of the range is taken,
+	 * and the two ranges on either side of it become candidates for the next.
+    *
+    * @param first - the index of the first match.
+    * @param last - the index of the last match.
+    * @param k - the number of terms to return.
+    * @return matches - an array of at most k matching Term objects.
+	 */
+   private Term[] topMatches(int first, int last, int k) {
+      int[] tree = maxTree();
+      // Each candidate is {lo, hi, index of the heaviest term in lo..hi}.
+      PriorityQueue<int[]> ranges = new PriorityQueue<>(
+                 (x, y) -> weights[x[2]] != weights[y[2]]
+                    ? Long.compare(weights[y[2]], weights[x[2]])
+                    : Integer.compare(x[2], y[2]));
+      ranges.add(new int[] {first, last, maxIndex(tree, first, last)});
+
+      Term[] matches = new Term[Math.min(k, last - first + 1)];
+      for (int m = 0; m < matches.length; m++) {
+         int[] range = ranges.poll();
+         int max = range[2];
+         matches[m] = elements[max];
+         if (range[0] < max) {
+            ranges.add(new int[] {range[0], max - 1, maxIndex(tree, range[0], max - 1)});
+         }
+         if (max < range[1]) {
+            ranges.add(new int[] {max + 1, range[1], maxIndex(tree, max + 1, range[1])});
+         }
+      }
+      return matches;
+   }
+
+	/**
+	 * Returns the segment tree of range maxima, building it on first use.
+	 * Leaf n + i holds i, and node p holds the index of the heavier term of
+	 * its children 2p and 2p + 1, so node 1 covers every term.
+    *
+    * @return the segment tree.
+	 */
+   private int[] maxTree() {
+      int[] tree = this.maxTree;
+      if (tree != null) return tree;
+
+      int n = elements.length;
+      long[] w = new long[n];
+      for (int i = 0; i < n; i++) {
+         w[i] = elements[i].weight();
+      }
+      this.weights = w;
+
+      tree = new int[2 * n];
+      for (int i = 0; i < n; i++) {
+         tree[n + i] = i;
+      }
+      for (int p = n - 1; p > 0; p--) {
+         tree[p] = better(tree[2 * p], tree[2 * p + 1]);
+      }
+      this.maxTree = tree;
+      return tree;
+   }
+
+	/**
+	 * Returns the index of the heaviest term among elements[lo..hi], climbing
+	 * the segment tree from both ends of the range.
+    *
+    * @param tree - the segment tree.
+    * @param lo - the first index of the range.
+    * @param hi - the last index of the range.
+    * @return the index of the heaviest term in the range.
+	 */
+   private int maxIndex(int[] tree, int lo, int hi) {
+      int n = tree.length / 2;
+      int max = lo;
+      for (lo += n, hi += n + 1; lo < hi; lo /= 2, hi /= 2) {
+         if ((lo & 1) == 1) max = better(max, tree[lo++]);
+         if ((hi & 1) == 1) max = better(max, tree[--hi]);
+      }
+      return max;
+   }
+
+	/**
+	 * Returns whichever of two indexes holds the heavier term, or the smaller
+	 * index if the weights are equal, as allMatches orders them.
+    *
+    * @param i - an index of elements.
+    * @param j - an index of elements.
+    * @return the index of the term that comes first.
+	 */
+   private int better(int i, int j) {
+      if (weights[i] != weights[j]) {
+         return weights[i] > weights[j] ? i : j;
+      }
+      return Math.min(i, j);
    }
 }
@@ -0,0 +1,65 @@
+import java.util.Comparator;
+import java.util.Random;
+
+/**
+ * Checks that prefix searches no longer allocate a String per comparison.
+ * Each call is measured with AllocationMeter from assignment 2, so compile
+ * this check with
+ * <pre>
+ * javac -sourcepath "../assignment 2.java" -d out *.java
+ * java -cp out AutocompleteAllocationCheck
+ * </pre>
+ * It checks two things and exits with status 1 if either fails:
+ * a BinarySearch probe with Term.byPrefixOrder allocates nothing at all,
+ * and allMatches allocates no more than its result array and a few small
+ * objects, however many probes its binary searches make.
+ */
+final class AutocompleteAllocationCheck {
+
+   private static final int TERMS = 100_000;
+
+   /** Bytes allowed per allMatches call beyond its result array. */
+   private static final int FIXED_BYTES = 128;
+
+   private AutocompleteAllocationCheck() { }
+
+    /**
+     * Runs the check.
+     *
+     * @param args - ignored.
+     */
+   public static void main(String[] args) {
+      if (!AllocationMeter.supported()) {
+         return;
+      }
+
+      Random random = new Random(25);
+      Term[] terms = new Term[TERMS];
+      for (int i = 0; i < terms.length; i++) {
+         StringBuilder query = new StringBuilder();
+         int length = 4 + random.nextInt(8);
+         for (int j = 0; j < length; j++) {
+            query.append((char) ('a' + random.nextInt(26)));
+         }
+         terms[i] = new Term(query.toString(), random.nextInt(1_000_000));
+      }
+      Autocomplete autocomplete = new Autocomplete(terms);
+
+      // A prefix with a few matches, so the result array stays small.
+      String prefix = terms[0].query().substring(0, 4);
+      int matches = autocomplete.allMatches(prefix).length;
+
+      Term key = new Term(prefix, 0);
+      Comparator<Term> byPrefix = Term.byPrefixOrder(prefix.length());
+      boolean failed = false;
+      failed |= AllocationMeter.check("binary search probes",
+         () -> BinarySearch.firstIndexOf(terms, key, byPrefix)
+            + BinarySearch.lastIndexOf(terms, key, byPrefix), 0);
+      failed |= AllocationMeter.check("allMatches",
+         () -> autocomplete.allMatches(prefix).length, 16 + 8L * matches + FIXED_BYTES);
+
+      if (failed) {
+         System.exit(1);
+      }
+   }
+}
@@ -70,7 +70,25 @@ public class Term implements Comparable<Term> {
    public String toString(){
       return this.query + "\t" + this.weight;
    }
-   
+
+    /**
+     * Returns the query of this term.
+     *
+     * @return the word in the word, weight pair.
+     */
+   String query() {
+      return this.query;
+   }
+
+    /**
+     * Returns the weight of this term.
+     *
+     * @return the weight in the word, weight pair.
+     */
+   long weight() {
+      return this.weight;
+   }
+
    /**
    * This class defines a comparator used to establish a total ordering based on
    * query weights.
@@ -93,21 +111,25 @@ public class Term implements Comparable<Term> {
       private ComparatorPrefixOrder(int length) {
          this.length = length;
       }
+
+      /**
+      * Compares the first length characters of each query in place, with
+      * the same result as comparing the two prefixes with String.compareTo,
+      * but without allocating them.
+      */
       @Override
       public int compare(Term t1, Term t2) {
-         String thisPrefix, otherPrefix;
-         if (t1.query.length() < length) {
-            thisPrefix = t1.query;
-         } else {
-            thisPrefix = t1.query.substring(0, length);
-         }
-         
-         if (t2.query.length() < length) {
-            otherPrefix = t2.query;
-         } else {
-            otherPrefix = t2.query.substring(0, length);
+         int thisLength = Math.min(t1.query.length(), length);
+         int otherLength = Math.min(t2.query.length(), length);
+         int common = Math.min(thisLength, otherLength);
+         for (int i = 0; i < common; i++) {
+            char c1 = t1.query.charAt(i);
+            char c2 = t2.query.charAt(i);
+            if (c1 != c2) {
+               return c1 - c2;
+            }
          }
-         return thisPrefix.compareTo(otherPrefix);
+         return thisLength - otherLength;
       }
    }
 
@@ -0,0 +1,219 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * An autocomplete engine over a ternary search tree of the queries. Every
+ * node records the maximum weight of any term in its subtree, so the top k
+ * terms for a prefix are found by a best-first search that only opens the
+ * subtrees that could still hold one of them. A short prefix with many
+ * matches costs about as much as a long one, instead of copying and sorting
+ * every match as Autocomplete.allMatches does.
+ *
+ * Results are identical to the first k terms of Autocomplete.allMatches:
+ * descending order of weight, and terms of equal weight in ascending order
+ * of query.
+ */
+public class TrieAutocomplete {
+   private final Term[] elements;
+   private final Node root;
+
+    /** Constructor.
+     * Initializes a data structure from the given array of terms.
+     * This method throws a NullPointerException if terms is null.
+     *
+     * @param terms - an array of object of type Term.
+     */
+   public TrieAutocomplete(Term[] terms) {
+      if (terms == null) throw new NullPointerException();
+      this.elements = terms.clone();
+      Arrays.sort(this.elements);
+      this.root = new Node('\0');
+
+      // Terms with the same query share a node and a range of elements.
+      List<Integer> groups = new ArrayList<>();
+      for (int i = 0; i < elements.length; i++) {
+         if (i == 0 || elements[i].compareTo(elements[i - 1]) != 0) {
+            groups.add(i);
+         }
+      }
+      groups.add(elements.length);
+      insert(groups, 0, groups.size() - 2);
+   }
+
+    /**
+     * Returns the k terms of greatest weight that start with the given
+     * prefix, in descending order of weight. Fewer than k terms are
+     * returned if fewer match. This method throws a NullPointerException
+     * if prefix is null, and an IllegalArgumentException if prefix is
+     * empty or k is negative, as Autocomplete does.
+     *
+     * @param prefix - the prefix to search for.
+     * @param k - the number of terms to return.
+     * @return matches - an array of at most k matching Term objects.
+     */
+   public Term[] topMatches(String prefix, int k) {
+      if (prefix == null) throw new NullPointerException();
+      if (prefix.isEmpty() || k < 0) throw new IllegalArgumentException();
+
+      Node start = find(prefix);
+      if (start == null || k == 0) {
+         return new Term[0];
+      }
+
+      PriorityQueue<Candidate> queue = new PriorityQueue<>();
+      offer(queue, start.mid);
+      offerTerms(queue, start);
+
+      List<Term> matches = new ArrayList<>(k);
+      while (matches.size() < k && !queue.isEmpty()) {
+         Candidate best = queue.poll();
+         if (best.node == null) {
+            matches.add(elements[best.index]);
+         }
+         else {
+            Node x = best.node;
+            offer(queue, x.left);
+            offer(queue, x.mid);
+            offer(queue, x.right);
+            offerTerms(queue, x);
+         }
+      }
+      return matches.toArray(new Term[0]);
+   }
+
+    /**
+     * Returns the node for the last character of prefix, or the root for
+     * the empty prefix. Matching terms are that node's own terms and the
+     * terms in its middle subtree.
+     *
+     * @param prefix - the prefix to search for.
+     * @return the node for prefix, or null if no query starts with it.
+     */
+   private Node find(String prefix) {
+      Node x = root;
+      for (int d = 0; d < prefix.length(); d++) {
+         char c = prefix.charAt(d);
+         x = x.mid;
+         while (x != null && x.c != c) {
+            x = c < x.c ? x.left : x.right;
+         }
+         if (x == null) {
+            return null;
+         }
+      }
+      return x;
+   }
+
+    /**
+     * Inserts the groups lo through hi, median first, so that each level
+     * of siblings forms a balanced tree.
+     *
+     * @param groups - the first element index of each group, then the end.
+     * @param lo - the first group to insert.
+     * @param hi - the last group to insert.
+     */
+   private void insert(List<Integer> groups, int lo, int hi) {
+      if (lo > hi) {
+         return;
+      }
+      int mid = (lo + hi) >>> 1;
+      insert(groups.get(mid), groups.get(mid + 1) - 1);
+      insert(groups, lo, mid - 1);
+      insert(groups, mid + 1, hi);
+   }
+
+    /**
+     * Inserts the terms elements[first..last], which share one query, and
+     * raises the maximum weight of every node on the way.
+     *
+     * @param first - the index of the first term.
+     * @param last - the index of the last term.
+     */
+   private void insert(int first, int last) {
+      String query = elements[first].query();
+      long weight = 0;
+      for (int i = first; i <= last; i++) {
+         weight = Math.max(weight, elements[i].weight());
+      }
+
+      Node x = root;
+      x.max = Math.max(x.max, weight);
+      for (int d = 0; d < query.length(); d++) {
+         char c = query.charAt(d);
+         if (x.mid == null) x.mid = new Node(c);
+         x = x.mid;
+         while (x.c != c) {
+            x.max = Math.max(x.max, weight);
+            if (c < x.c) {
+               if (x.left == null) x.left = new Node(c);
+               x = x.left;
+            } else {
+               if (x.right == null) x.right = new Node(c);
+               x = x.right;
+            }
+         }
+         x.max = Math.max(x.max, weight);
+      }
+      x.first = first;
+      x.last = last;
+   }
+
+   private static void offer(PriorityQueue<Candidate> queue, Node x) {
+      if (x != null) {
+         queue.add(new Candidate(x.max, x, -1));
+      }
+   }
+
+   private void offerTerms(PriorityQueue<Candidate> queue, Node x) {
+      for (int i = x.first; i >= 0 && i <= x.last; i++) {
+         queue.add(new Candidate(elements[i].weight(), null, i));
+      }
+   }
+
+   /**
+   * This class defines a node of the ternary search tree. A node with a
+   * term range ends a query; max covers the node, its term range, and its
+   * left, middle, and right subtrees.
+   */
+   private static class Node {
+      private final char c;
+      private Node left, mid, right;
+      private int first = -1, last = -1;
+      private long max;
+
+      private Node(char c) {
+         this.c = c;
+      }
+   }
+
+   /**
+   * This class defines an entry of the best-first search: either a subtree,
+   * ranked by its maximum weight, or a single term, ranked by its weight.
+   * On equal weight, subtrees come first, since they may hold a term that
+   * sorts earlier, and terms come in ascending order of query.
+   */
+   private static class Candidate implements Comparable<Candidate> {
+      private final long weight;
+      private final Node node;
+      private final int index;
+
+      private Candidate(long weight, Node node, int index) {
+         this.weight = weight;
+         this.node = node;
+         this.index = index;
+      }
+
+      @Override
+      public int compareTo(Candidate other) {
+         if (this.weight != other.weight) {
+            return this.weight > other.weight ? -1 : 1;
+         }
+         if ((this.node == null) != (other.node == null)) {
+            return this.node != null ? -1 : 1;
+         }
+         return Integer.compare(this.index, other.index);
+      }
+   }
+}